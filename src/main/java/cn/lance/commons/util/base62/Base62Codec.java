@@ -0,0 +1,314 @@
+package cn.lance.commons.util.base62;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 可复用的 Base62 编解码器
+ *
+ * <p>构造时预先计算字符表与 128 项反查表，解码每个字符只需一次查表。字母表可自定义，
+ * 例如去掉易混淆字符（0/O、1/l/I）的字母表，此时进制等于字母表长度（2 ~ 62）。</p>
+ *
+ * <p>使用默认字母表时，编码结果与 {@link Base62Utils} 的静态方法一致。实例不可变，可在线程间共享。</p>
+ */
+public class Base62Codec {
+
+    /**
+     * 默认字母表 (0-9, A-Z, a-z)
+     */
+    public static final Base62Codec STANDARD = new Base62Codec(Base62Utils.ALPHABET);
+
+    private final char[] digits;
+
+    /**
+     * 字符反查表，非法字符为 -1
+     */
+    private final byte[] indexes = new byte[128];
+
+    private final int radix;
+
+    /**
+     * 64 位无符号整数编码后的最大长度
+     */
+    private final int longMaxLength;
+
+    /**
+     * 大整数编解码时每次处理的位数，radix^chunkDigits 不超过 long 范围
+     */
+    private final int chunkDigits;
+
+    /**
+     * radix 的幂：powers[i] = radix^i，i <= chunkDigits
+     */
+    private final long[] powers;
+
+    private final BigInteger chunkBase;
+
+    /**
+     * 构造编解码器
+     *
+     * @param alphabet 字母表，2 ~ 62 个互不相同的 ASCII 字符，按数值从小到大排列
+     */
+    public Base62Codec(String alphabet) {
+        Objects.requireNonNull(alphabet, "alphabet must not be null");
+        if (alphabet.length() < 2 || alphabet.length() > 62) {
+            throw new IllegalArgumentException("Alphabet length must be between 2 and 62");
+        }
+
+        this.digits = alphabet.toCharArray();
+        this.radix = digits.length;
+        Arrays.fill(indexes, (byte) -1);
+        for (int i = 0; i < radix; i++) {
+            char c = digits[i];
+            if (c >= 128) {
+                throw new IllegalArgumentException("Alphabet must only contain ASCII characters: " + c);
+            }
+            if (indexes[c] >= 0) {
+                throw new IllegalArgumentException("Duplicate alphabet character: " + c);
+            }
+            indexes[c] = (byte) i;
+        }
+
+        int length = 1;
+        for (long max = -1L; Long.compareUnsigned(max, radix) >= 0; max = Long.divideUnsigned(max, radix)) {
+            length++;
+        }
+        this.longMaxLength = length;
+
+        int chunk = 0;
+        long power = 1;
+        while (power <= Long.MAX_VALUE / radix) {
+            power *= radix;
+            chunk++;
+        }
+        this.chunkDigits = chunk;
+        this.powers = new long[chunk + 1];
+        this.powers[0] = 1;
+        for (int i = 1; i <= chunk; i++) {
+            this.powers[i] = this.powers[i - 1] * radix;
+        }
+        this.chunkBase = BigInteger.valueOf(power);
+    }
+
+    /**
+     * 获取进制（字母表长度）
+     *
+     * @return 进制
+     */
+    public int getRadix() {
+        return radix;
+    }
+
+    /**
+     * 编码字节数组
+     *
+     * @param data 原始字节
+     * @return 编码字符串
+     */
+    public String encode(byte[] data) {
+        Objects.requireNonNull(data, "data must not be null");
+
+        if (data.length == 0) {
+            return "";
+        }
+
+        StringBuilder result = new StringBuilder(data.length * 2);
+        BigInteger value = new BigInteger(1, data);
+        while (value.signum() > 0) {
+            // 每次除以 radix^chunkDigits，余数用 long 运算拆出多位
+            BigInteger[] div = value.divideAndRemainder(chunkBase);
+            long remainder = div[1].longValue();
+            value = div[0];
+            if (value.signum() > 0) {
+                for (int i = 0; i < chunkDigits; i++) {
+                    result.append(digits[(int) (remainder % radix)]);
+                    remainder /= radix;
+                }
+            } else {
+                while (remainder > 0) {
+                    result.append(digits[(int) (remainder % radix)]);
+                    remainder /= radix;
+                }
+            }
+        }
+
+        for (byte b : data) {
+            if (b == 0) {
+                result.append(digits[0]);
+            } else {
+                break;
+            }
+        }
+
+        return result.reverse().toString();
+    }
+
+    /**
+     * 解码为字节数组
+     *
+     * @param text 编码字符串
+     * @return 原始字节
+     * @throws IllegalArgumentException 包含非法字符
+     */
+    public byte[] decode(CharSequence text) {
+        Objects.requireNonNull(text, "text must not be null");
+
+        int length = text.length();
+        if (length == 0) {
+            return new byte[0];
+        }
+
+        int leadingZeros = 0;
+        while (leadingZeros < length && text.charAt(leadingZeros) == digits[0]) {
+            leadingZeros++;
+        }
+
+        BigInteger value = BigInteger.ZERO;
+        long chunk = 0;
+        int chunkLength = 0;
+        for (int i = leadingZeros; i < length; i++) {
+            chunk = chunk * radix + digit(text.charAt(i));
+            if (++chunkLength == chunkDigits) {
+                value = value.multiply(chunkBase).add(BigInteger.valueOf(chunk));
+                chunk = 0;
+                chunkLength = 0;
+            }
+        }
+        if (chunkLength > 0) {
+            value = value.multiply(BigInteger.valueOf(powers[chunkLength])).add(BigInteger.valueOf(chunk));
+        }
+
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0 && bytes.length > 1) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+
+        if (leadingZeros > 0) {
+            int extraZeros = value.signum() == 0 ? leadingZeros - 1 : leadingZeros;
+            if (extraZeros > 0) {
+                byte[] result = new byte[bytes.length + extraZeros];
+                System.arraycopy(bytes, 0, result, extraZeros, bytes.length);
+                return result;
+            }
+        }
+
+        return bytes;
+    }
+
+    /**
+     * 编码 64 位整数（按无符号处理）
+     *
+     * @param value 整数
+     * @return 编码字符串
+     */
+    public String encode(long value) {
+        char[] buffer = new char[longMaxLength];
+        int position = fill(value, buffer);
+        return new String(buffer, position, longMaxLength - position);
+    }
+
+    /**
+     * 编码 64 位整数（按无符号处理）并追加到 StringBuilder
+     *
+     * @param value   整数
+     * @param builder 目标 StringBuilder
+     * @return 目标 StringBuilder
+     */
+    public StringBuilder encodeTo(long value, StringBuilder builder) {
+        Objects.requireNonNull(builder, "builder must not be null");
+        try {
+            encodeTo(value, (Appendable) builder);
+        } catch (IOException e) {
+            // StringBuilder 不会抛出 IOException
+            throw new UncheckedIOException(e);
+        }
+        return builder;
+    }
+
+    /**
+     * 编码 64 位整数（按无符号处理）并追加到 Appendable
+     *
+     * @param value 整数
+     * @param out   目标 Appendable
+     * @throws IOException 追加失败
+     */
+    public void encodeTo(long value, Appendable out) throws IOException {
+        Objects.requireNonNull(out, "out must not be null");
+        char[] buffer = new char[longMaxLength];
+        for (int i = fill(value, buffer); i < longMaxLength; i++) {
+            out.append(buffer[i]);
+        }
+    }
+
+    /**
+     * 编码 64 位整数（按无符号处理）并以 ASCII 写入 ByteBuffer（从当前 position 开始）
+     *
+     * @param value  整数
+     * @param buffer 目标 ByteBuffer
+     * @return 目标 ByteBuffer
+     */
+    public ByteBuffer encodeTo(long value, ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer must not be null");
+        char[] chars = new char[longMaxLength];
+        int position = fill(value, chars);
+        if (buffer.remaining() < longMaxLength - position) {
+            throw new BufferOverflowException();
+        }
+        for (int i = position; i < longMaxLength; i++) {
+            buffer.put((byte) chars[i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * 解码为 64 位整数（按无符号处理）
+     *
+     * @param text 编码字符串
+     * @return 整数
+     * @throws IllegalArgumentException 为空、包含非法字符或超出 64 位
+     */
+    public long decodeToLong(CharSequence text) {
+        Objects.requireNonNull(text, "text must not be null");
+        if (text.length() == 0 || text.length() > longMaxLength) {
+            throw new IllegalArgumentException("Invalid length for long: " + text.length());
+        }
+
+        long value = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int digit = digit(text.charAt(i));
+            if (Long.compareUnsigned(value, Long.divideUnsigned(-1L - digit, radix)) > 0) {
+                throw new IllegalArgumentException("Value out of range for long: " + text);
+            }
+            value = value * radix + digit;
+        }
+        return value;
+    }
+
+    /**
+     * 从末尾向前写入数字，返回起始下标
+     */
+    private int fill(long value, char[] buffer) {
+        int position = buffer.length;
+        long quotient = Long.divideUnsigned(value, radix);
+        buffer[--position] = digits[(int) (value - quotient * radix)];
+        while (quotient > 0) {
+            buffer[--position] = digits[(int) (quotient % radix)];
+            quotient /= radix;
+        }
+        return position;
+    }
+
+    private int digit(char c) {
+        int digit = c < 128 ? indexes[c] : -1;
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid Base62 character: " + c);
+        }
+        return digit;
+    }
+
+}
@@ -0,0 +1,111 @@
+package cn.lance.commons.util.base62;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * 分块 Base62 解码输入流
+ *
+ * <p>从上游流读取 {@link Base62Utils#encodeBlocks(byte[])} 格式的 ASCII 字符并解码为原始字节，
+ * 内存占用与数据大小无关。</p>
+ */
+public class Base62InputStream extends InputStream {
+
+    /**
+     * 每次批量解码的分块数
+     */
+    private static final int BATCH_BLOCKS = 512;
+
+    private final InputStream in;
+
+    private final byte[] encoded = new byte[BATCH_BLOCKS * Base62Utils.BLOCK_CHARS];
+
+    private int encodedLength;
+
+    private final byte[] decoded = new byte[BATCH_BLOCKS * Base62Utils.BLOCK_BYTES];
+
+    private int decodedPosition;
+
+    private int decodedLength;
+
+    private boolean eof;
+
+    /**
+     * 构造解码输入流
+     *
+     * @param in 上游输入流（提供 ASCII 字符）
+     */
+    public Base62InputStream(InputStream in) {
+        this.in = Objects.requireNonNull(in, "in must not be null");
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (decodedPosition == decodedLength && !fill()) {
+            return -1;
+        }
+        return decoded[decodedPosition++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (decodedPosition == decodedLength && !fill()) {
+            return -1;
+        }
+        int n = Math.min(len, decodedLength - decodedPosition);
+        System.arraycopy(decoded, decodedPosition, b, off, n);
+        decodedPosition += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return decodedLength - decodedPosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * 读取并解码下一批数据
+     *
+     * @return 没有更多数据时返回 false
+     */
+    private boolean fill() throws IOException {
+        while (true) {
+            if (!eof) {
+                int n = in.read(encoded, encodedLength, encoded.length - encodedLength);
+                if (n < 0) {
+                    eof = true;
+                } else {
+                    encodedLength += n;
+                }
+            }
+
+            // 未到末尾时只解码完整分块，剩余字符留待下次
+            int chars = eof ? encodedLength : encodedLength / Base62Utils.BLOCK_CHARS * Base62Utils.BLOCK_CHARS;
+            if (chars > 0) {
+                try {
+                    decodedLength = Base62Utils.decodeBlocks(encoded, 0, chars, decoded, 0);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Invalid Base62 block stream", e);
+                }
+                decodedPosition = 0;
+                encodedLength -= chars;
+                System.arraycopy(encoded, chars, encoded, 0, encodedLength);
+                return true;
+            }
+            if (eof) {
+                return false;
+            }
+        }
+    }
+
+}
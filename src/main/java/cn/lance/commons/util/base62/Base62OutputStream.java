@@ -0,0 +1,114 @@
+package cn.lance.commons.util.base62;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * 分块 Base62 编码输出流
+ *
+ * <p>写入的原始字节按 {@link Base62Utils#encodeBlocks(byte[])} 的格式编码为 ASCII 字符后写入下游流，
+ * 内存占用与数据大小无关。末尾不足 8 字节的部分在 {@link #finish()} 或 {@link #close()} 时写出。</p>
+ */
+public class Base62OutputStream extends OutputStream {
+
+    /**
+     * 每次批量编码的分块数
+     */
+    private static final int BATCH_BLOCKS = 512;
+
+    private final OutputStream out;
+
+    private final byte[] pending = new byte[Base62Utils.BLOCK_BYTES];
+
+    private int pendingLength;
+
+    private final byte[] encoded = new byte[BATCH_BLOCKS * Base62Utils.BLOCK_CHARS];
+
+    private boolean finished;
+
+    /**
+     * 构造编码输出流
+     *
+     * @param out 下游输出流（接收 ASCII 字符）
+     */
+    public Base62OutputStream(OutputStream out) {
+        this.out = Objects.requireNonNull(out, "out must not be null");
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        pending[pendingLength++] = (byte) b;
+        if (pendingLength == Base62Utils.BLOCK_BYTES) {
+            writePending();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+
+        // 先补齐未满的分块
+        while (len > 0 && pendingLength > 0) {
+            write(b[off++]);
+            len--;
+        }
+        if (pendingLength > 0) {
+            // 输入不足以补齐分块，已全部暂存
+            return;
+        }
+        while (len >= Base62Utils.BLOCK_BYTES) {
+            int bytes = Math.min(len / Base62Utils.BLOCK_BYTES, BATCH_BLOCKS) * Base62Utils.BLOCK_BYTES;
+            int chars = Base62Utils.encodeBlocks(b, off, bytes, encoded, 0);
+            out.write(encoded, 0, chars);
+            off += bytes;
+            len -= bytes;
+        }
+        System.arraycopy(b, off, pending, 0, len);
+        pendingLength = len;
+    }
+
+    /**
+     * 写出末尾不足 8 字节的部分，之后不能再写入
+     *
+     * @throws IOException 下游写入失败
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        writePending();
+        finished = true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void writePending() throws IOException {
+        if (pendingLength > 0) {
+            int chars = Base62Utils.encodeBlocks(pending, 0, pendingLength, encoded, 0);
+            out.write(encoded, 0, chars);
+            pendingLength = 0;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (finished) {
+            throw new IOException("Base62 stream already finished");
+        }
+    }
+
+}
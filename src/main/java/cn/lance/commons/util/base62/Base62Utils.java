@@ -2,18 +2,65 @@ package cn.lance.commons.util.base62;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
  * Base62 编解码工具 (0-9, A-Z, a-z)
  *
  * <p>适合生成 URL 友好的短标识符。</p>
+ *
+ * <p>{@link #encode(byte[])} 将整个字节数组视为一个大整数，耗时随输入长度平方增长，适合短数据；
+ * 大数据请使用分块变体 {@link #encodeBlocks(byte[])}，或流式的 {@link Base62OutputStream} / {@link Base62InputStream}。
+ * 两种格式互不兼容。</p>
  */
 public class Base62Utils {
 
-    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
     private static final BigInteger BASE = BigInteger.valueOf(62);
 
+    private static final char[] DIGITS = ALPHABET.toCharArray();
+
+    /**
+     * 字符反查表，非法字符为 -1
+     */
+    private static final byte[] INDEXES = new byte[128];
+
+    /**
+     * 64 位无符号整数编码后的最大长度（62^11 > 2^64）
+     */
+    private static final int LONG_MAX_LENGTH = 11;
+
+    /**
+     * 128 位无符号整数编码后的最大长度（62^22 > 2^128）
+     */
+    private static final int INT128_MAX_LENGTH = 22;
+
+    private static final long LIMB_MASK = 0xFFFFFFFFL;
+
+    /**
+     * 分块编码：每 8 字节编码为 11 个字符
+     */
+    static final int BLOCK_BYTES = 8;
+    static final int BLOCK_CHARS = 11;
+
+    /**
+     * 末尾不足 8 字节时，k 字节编码后的字符数（满足 62^n >= 256^k 的最小 n）
+     */
+    private static final int[] TAIL_CHARS = {0, 2, 3, 5, 6, 7, 9, 10};
+
+    /**
+     * TAIL_CHARS 的反查表，非法长度为 -1
+     */
+    private static final int[] TAIL_BYTES = {0, -1, 1, 2, -1, 3, 4, 5, -1, 6, 7};
+
+    static {
+        Arrays.fill(INDEXES, (byte) -1);
+        for (int i = 0; i < DIGITS.length; i++) {
+            INDEXES[DIGITS[i]] = (byte) i;
+        }
+    }
+
     private Base62Utils() {
     }
 
@@ -123,4 +170,318 @@ public class Base62Utils {
         return new String(decode(base62), StandardCharsets.UTF_8);
     }
 
+    /**
+     * 编码 64 位整数（按无符号处理）为 Base62 字符串
+     *
+     * <p>纯算术实现，不使用 BigInteger，结果不超过 11 个字符，无前导零（0 编码为 "0"）。</p>
+     *
+     * @param value 整数
+     * @return Base62 字符串
+     */
+    public static String encode(long value) {
+        char[] buffer = new char[LONG_MAX_LENGTH];
+        int position = fill(value, buffer);
+        return new String(buffer, position, LONG_MAX_LENGTH - position);
+    }
+
+    /**
+     * 编码 64 位整数（按无符号处理）为定长 11 个字符的可排序 Base62 字符串
+     *
+     * <p>左侧补 '0'，字母表按 ASCII 升序排列，因此编码结果的字典序（含按字节比较）与无符号数值顺序一致，
+     * 适合作为对象存储或有序 KV 中的键。负数按无符号处理，排在所有非负数之后。</p>
+     *
+     * @param value 整数
+     * @return 11 个字符的 Base62 字符串
+     */
+    public static String encodeSortable(long value) {
+        char[] buffer = new char[LONG_MAX_LENGTH];
+        Arrays.fill(buffer, 0, fill(value, buffer), DIGITS[0]);
+        return new String(buffer);
+    }
+
+    /**
+     * 解码定长可排序 Base62 字符串为 64 位整数（按无符号处理）
+     *
+     * @param base62 由 {@link #encodeSortable(long)} 生成的 11 个字符的 Base62 字符串
+     * @return 整数
+     * @throws IllegalArgumentException 长度不为 11、包含非法字符或超出 64 位
+     */
+    public static long decodeSortableToLong(String base62) {
+        Objects.requireNonNull(base62, "base62 must not be null");
+        if (base62.length() != LONG_MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid sortable Base62 length for long: " + base62.length());
+        }
+        return decodeToLong(base62);
+    }
+
+    /**
+     * 解码 Base62 字符串为 64 位整数（按无符号处理）
+     *
+     * @param base62 Base62 字符串
+     * @return 整数
+     * @throws IllegalArgumentException 为空、包含非法字符或超出 64 位
+     */
+    public static long decodeToLong(String base62) {
+        Objects.requireNonNull(base62, "base62 must not be null");
+        if (base62.isEmpty() || base62.length() > LONG_MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid Base62 length for long: " + base62.length());
+        }
+
+        long value = 0;
+        for (int i = 0; i < base62.length(); i++) {
+            int digit = digit(base62.charAt(i));
+            // value * 62 + digit 不得超过 2^64 - 1
+            if (Long.compareUnsigned(value, Long.divideUnsigned(-1L - digit, 62)) > 0) {
+                throw new IllegalArgumentException("Base62 value out of range for long: " + base62);
+            }
+            value = value * 62 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * 编码 128 位整数（按无符号处理，如 UUID）为 Base62 字符串
+     *
+     * <p>纯算术实现，不使用 BigInteger，结果不超过 22 个字符，无前导零。</p>
+     *
+     * @param high 高 64 位
+     * @param low  低 64 位
+     * @return Base62 字符串
+     */
+    public static String encode(long high, long low) {
+        char[] buffer = new char[INT128_MAX_LENGTH];
+        int position = fill(high, low, buffer);
+        return new String(buffer, position, INT128_MAX_LENGTH - position);
+    }
+
+    /**
+     * 编码 128 位整数（按无符号处理，如 UUIDv7）为定长 22 个字符的可排序 Base62 字符串
+     *
+     * <p>左侧补 '0'，编码结果的字典序（含按字节比较）与无符号数值顺序一致，UUIDv7 编码后仍保持时间顺序。</p>
+     *
+     * @param high 高 64 位
+     * @param low  低 64 位
+     * @return 22 个字符的 Base62 字符串
+     */
+    public static String encodeSortable(long high, long low) {
+        char[] buffer = new char[INT128_MAX_LENGTH];
+        Arrays.fill(buffer, 0, fill(high, low, buffer), DIGITS[0]);
+        return new String(buffer);
+    }
+
+    /**
+     * 解码定长可排序 Base62 字符串为 128 位整数（按无符号处理）
+     *
+     * @param base62 由 {@link #encodeSortable(long, long)} 生成的 22 个字符的 Base62 字符串
+     * @return 长度为 2 的数组：[高 64 位, 低 64 位]
+     * @throws IllegalArgumentException 长度不为 22、包含非法字符或超出 128 位
+     */
+    public static long[] decodeSortableToLongs(String base62) {
+        Objects.requireNonNull(base62, "base62 must not be null");
+        if (base62.length() != INT128_MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid sortable Base62 length for 128-bit value: " + base62.length());
+        }
+        return decodeToLongs(base62);
+    }
+
+    /**
+     * 从末尾向前写入 64 位无符号整数的各位，返回起始下标
+     */
+    private static int fill(long value, char[] buffer) {
+        int position = buffer.length;
+
+        // 先做一次无符号除法，之后的商均为非负数
+        long quotient = Long.divideUnsigned(value, 62);
+        buffer[--position] = DIGITS[(int) (value - quotient * 62)];
+        while (quotient > 0) {
+            buffer[--position] = DIGITS[(int) (quotient % 62)];
+            quotient /= 62;
+        }
+        return position;
+    }
+
+    /**
+     * 从末尾向前写入 128 位无符号整数的各位，返回起始下标
+     */
+    private static int fill(long high, long low, char[] buffer) {
+        // 拆为 4 个 32 位分段，逐位做长除法
+        long l3 = high >>> 32;
+        long l2 = high & LIMB_MASK;
+        long l1 = low >>> 32;
+        long l0 = low & LIMB_MASK;
+
+        int position = buffer.length;
+        do {
+            long remainder = l3 % 62;
+            l3 /= 62;
+            long current = (remainder << 32) | l2;
+            l2 = current / 62;
+            current = ((current % 62) << 32) | l1;
+            l1 = current / 62;
+            current = ((current % 62) << 32) | l0;
+            l0 = current / 62;
+            buffer[--position] = DIGITS[(int) (current % 62)];
+        } while ((l3 | l2 | l1 | l0) != 0);
+        return position;
+    }
+
+    /**
+     * 解码 Base62 字符串为 128 位整数（按无符号处理）
+     *
+     * @param base62 Base62 字符串
+     * @return 长度为 2 的数组：[高 64 位, 低 64 位]
+     * @throws IllegalArgumentException 为空、包含非法字符或超出 128 位
+     */
+    public static long[] decodeToLongs(String base62) {
+        Objects.requireNonNull(base62, "base62 must not be null");
+        if (base62.isEmpty() || base62.length() > INT128_MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid Base62 length for 128-bit value: " + base62.length());
+        }
+
+        long l3 = 0;
+        long l2 = 0;
+        long l1 = 0;
+        long l0 = 0;
+        for (int i = 0; i < base62.length(); i++) {
+            long current = l0 * 62 + digit(base62.charAt(i));
+            l0 = current & LIMB_MASK;
+            current = l1 * 62 + (current >>> 32);
+            l1 = current & LIMB_MASK;
+            current = l2 * 62 + (current >>> 32);
+            l2 = current & LIMB_MASK;
+            current = l3 * 62 + (current >>> 32);
+            l3 = current & LIMB_MASK;
+            if ((current >>> 32) != 0) {
+                throw new IllegalArgumentException("Base62 value out of range for 128-bit value: " + base62);
+            }
+        }
+        return new long[]{(l3 << 32) | l2, (l1 << 32) | l0};
+    }
+
+    private static int digit(char c) {
+        int digit = c < 128 ? INDEXES[c] : -1;
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid Base62 character: " + c);
+        }
+        return digit;
+    }
+
+    /**
+     * 分块编码字节数组为 Base62 字符串（线性时间）
+     *
+     * <p>每 8 字节编码为固定 11 个字符，末尾不足 8 字节的部分按字节数编码为固定长度的字符组。
+     * 输出与 {@link #encode(byte[])} 不兼容，需使用 {@link #decodeBlocks(String)} 解码。</p>
+     *
+     * @param data 原始字节
+     * @return Base62 字符串
+     */
+    public static String encodeBlocks(byte[] data) {
+        Objects.requireNonNull(data, "data must not be null");
+
+        byte[] encoded = new byte[blockEncodedLength(data.length)];
+        encodeBlocks(data, 0, data.length, encoded, 0);
+        return new String(encoded, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 解码分块 Base62 字符串为字节数组（线性时间）
+     *
+     * @param base62 由 {@link #encodeBlocks(byte[])} 生成的 Base62 字符串
+     * @return 原始字节
+     * @throws IllegalArgumentException 包含非法字符、长度非法或分组取值越界
+     */
+    public static byte[] decodeBlocks(String base62) {
+        Objects.requireNonNull(base62, "base62 must not be null");
+
+        byte[] encoded = base62.getBytes(StandardCharsets.ISO_8859_1);
+        byte[] decoded = new byte[blockDecodedLength(encoded.length)];
+        decodeBlocks(encoded, 0, encoded.length, decoded, 0);
+        return decoded;
+    }
+
+    /**
+     * 分块编码后的字符数
+     */
+    static int blockEncodedLength(int bytes) {
+        return bytes / BLOCK_BYTES * BLOCK_CHARS + TAIL_CHARS[bytes % BLOCK_BYTES];
+    }
+
+    /**
+     * 分块解码后的字节数
+     */
+    static int blockDecodedLength(int chars) {
+        int tail = TAIL_BYTES[chars % BLOCK_CHARS];
+        if (tail < 0) {
+            throw new IllegalArgumentException("Invalid Base62 block length: " + chars);
+        }
+        return chars / BLOCK_CHARS * BLOCK_BYTES + tail;
+    }
+
+    /**
+     * 分块编码，以 ASCII 写入目标数组
+     *
+     * @return 写入的字符数
+     */
+    static int encodeBlocks(byte[] src, int offset, int length, byte[] dest, int destOffset) {
+        int position = destOffset;
+        int end = offset + length;
+        while (offset < end) {
+            int bytes = Math.min(BLOCK_BYTES, end - offset);
+            long value = 0;
+            for (int i = 0; i < bytes; i++) {
+                value = (value << 8) | (src[offset + i] & 0xFF);
+            }
+            int chars = bytes == BLOCK_BYTES ? BLOCK_CHARS : TAIL_CHARS[bytes];
+
+            // 定长输出，高位补 '0'
+            long quotient = Long.divideUnsigned(value, 62);
+            dest[position + chars - 1] = (byte) DIGITS[(int) (value - quotient * 62)];
+            for (int i = chars - 2; i >= 0; i--) {
+                dest[position + i] = (byte) DIGITS[(int) (quotient % 62)];
+                quotient /= 62;
+            }
+
+            offset += bytes;
+            position += chars;
+        }
+        return position - destOffset;
+    }
+
+    /**
+     * 分块解码 ASCII 字符，写入目标数组
+     *
+     * @return 写入的字节数
+     */
+    static int decodeBlocks(byte[] src, int offset, int length, byte[] dest, int destOffset) {
+        blockDecodedLength(length);
+
+        int position = destOffset;
+        int end = offset + length;
+        while (offset < end) {
+            int chars = Math.min(BLOCK_CHARS, end - offset);
+            int bytes = chars == BLOCK_CHARS ? BLOCK_BYTES : TAIL_BYTES[chars];
+
+            long value = 0;
+            for (int i = 0; i < chars; i++) {
+                int digit = digit((char) (src[offset + i] & 0xFF));
+                if (Long.compareUnsigned(value, Long.divideUnsigned(-1L - digit, 62)) > 0) {
+                    throw new IllegalArgumentException("Base62 block value out of range");
+                }
+                value = value * 62 + digit;
+            }
+            if (bytes < BLOCK_BYTES && (value >>> (bytes * 8)) != 0) {
+                throw new IllegalArgumentException("Base62 block value out of range");
+            }
+
+            for (int i = bytes - 1; i >= 0; i--) {
+                dest[position + i] = (byte) value;
+                value >>>= 8;
+            }
+
+            offset += chars;
+            position += bytes;
+        }
+        return position - destOffset;
+    }
+
 }
@@ -0,0 +1,220 @@
+package cn.lance.commons.util.qr;
+
+import cn.lance.commons.util.tlv.TlvNode;
+import cn.lance.commons.util.tlv.TlvView;
+import cn.lance.commons.util.tlv.TlvUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * EMVCo 商户二维码（Merchant-Presented QR）载荷工具类
+ *
+ * <p>载荷为 2 位数字标签、2 位数字长度的 TLV 字符串，以 CRC 数据元 "6304XXXX" 结尾。
+ * CRC 为 CRC-16/CCITT-FALSE（多项式 0x1021，初始值 0xFFFF），按 UTF-8 字节计算，
+ * 范围为载荷开头到 "6304"（含），结果为 4 位大写十六进制。</p>
+ */
+public class EmvQrUtils {
+
+    /**
+     * CRC 数据元前缀（标签 63，长度 04）
+     */
+    private static final String CRC_PREFIX = "6304";
+
+    private static final int CRC_ELEMENT_LENGTH = 8;
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * CRC-16/CCITT 查表（多项式 0x1021）
+     */
+    private static final int[] CRC_TABLE = new int[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            int crc = i << 8;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+            CRC_TABLE[i] = crc & 0xFFFF;
+        }
+    }
+
+    private EmvQrUtils() {
+    }
+
+    /**
+     * 计算 CRC-16/CCITT-FALSE
+     *
+     * @param data   字节
+     * @param offset 起始下标
+     * @param length 字节数
+     * @return CRC（0 ~ 0xFFFF）
+     */
+    public static int crc16(byte[] data, int offset, int length) {
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.checkFromIndexSize(offset, length, data.length);
+        int crc = 0xFFFF;
+        for (int i = offset; i < offset + length; i++) {
+            crc = update(crc, data[i]);
+        }
+        return crc;
+    }
+
+    /**
+     * 计算字符序列 UTF-8 字节的 CRC-16/CCITT-FALSE
+     *
+     * @param text 字符序列
+     * @return CRC（0 ~ 0xFFFF）
+     */
+    public static int crc16(CharSequence text) {
+        Objects.requireNonNull(text, "text must not be null");
+        return crc16(text, text.length());
+    }
+
+    /**
+     * 校验载荷：TLV 结构完整、以标签 00 开头、以 "6304" 加正确 CRC 结尾
+     *
+     * @param payload 载荷
+     * @return 是否合法
+     */
+    public static boolean validate(CharSequence payload) {
+        if (payload == null || payload.length() < CRC_ELEMENT_LENGTH) {
+            return false;
+        }
+
+        TlvView view = TlvUtils.view(payload);
+        int last = view.size() - 1;
+        if (last < 1 || view.tag(0) != 0 || view.tag(last) != 63 || view.length(last) != 4
+                || view.valueOffset(last) + 4 != payload.length()) {
+            return false;
+        }
+        return checkCrc(payload);
+    }
+
+    /**
+     * 批量校验
+     *
+     * @param payloads 载荷
+     * @return 与输入顺序对应的校验结果
+     */
+    public static boolean[] validateAll(List<? extends CharSequence> payloads) {
+        Objects.requireNonNull(payloads, "payloads must not be null");
+        boolean[] result = new boolean[payloads.size()];
+        int i = 0;
+        for (CharSequence payload : payloads) {
+            result[i++] = validate(payload);
+        }
+        return result;
+    }
+
+    /**
+     * 生成带 CRC 的载荷（顶层最后一个数据元为 CRC 数据元时重新计算）
+     *
+     * @param payload 不含或含 CRC 数据元的载荷
+     * @return 以 "6304XXXX" 结尾的载荷
+     */
+    public static String generate(CharSequence payload) {
+        Objects.requireNonNull(payload, "payload must not be null");
+
+        int length = payload.length();
+        if (hasCrcElement(payload)) {
+            length -= CRC_ELEMENT_LENGTH;
+        }
+        StringBuilder builder = new StringBuilder(length + CRC_ELEMENT_LENGTH);
+        builder.append(payload, 0, length).append(CRC_PREFIX);
+        int crc = crc16(builder, builder.length());
+        for (int shift = 12; shift >= 0; shift -= 4) {
+            builder.append(HEX[(crc >>> shift) & 0xF]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 校验并解析载荷，仅模板数据元（26 ~ 51、62、64、80 ~ 99）解析子节点
+     *
+     * @param payload 载荷
+     * @return 解析对象
+     * @throws IllegalArgumentException 载荷不合法
+     */
+    public static List<TlvNode> parse(String payload) {
+        TlvView view = view(payload);
+        List<TlvNode> result = new ArrayList<>(view.size());
+        for (int i = 0; i < view.size(); i++) {
+            result.add(view.toTlvNode(i, isTemplate(view.tag(i)) ? 2 : 1));
+        }
+        return result;
+    }
+
+    /**
+     * 校验载荷并创建 TLV 视图
+     *
+     * @param payload 载荷
+     * @return TLV视图
+     * @throws IllegalArgumentException 载荷不合法
+     */
+    public static TlvView view(CharSequence payload) {
+        if (!validate(payload)) {
+            throw new IllegalArgumentException("Invalid EMV QR payload");
+        }
+        return TlvUtils.view(payload);
+    }
+
+    /**
+     * 是否模板数据元
+     *
+     * @param tag 顶层标签
+     * @return 商户账户信息（26 ~ 51）、附加数据（62）、商户信息语言模板（64）、自定义模板（80 ~ 99）返回 true
+     */
+    public static boolean isTemplate(int tag) {
+        return (tag >= 26 && tag <= 51) || tag == 62 || tag == 64 || (tag >= 80 && tag <= 99);
+    }
+
+    /**
+     * 顶层最后一个数据元是否为覆盖载荷末尾的 CRC 数据元（标签 63，长度 04）
+     */
+    private static boolean hasCrcElement(CharSequence payload) {
+        TlvView view = TlvUtils.view(payload);
+        int last = view.size() - 1;
+        return last >= 0 && view.tag(last) == 63 && view.length(last) == 4
+                && view.valueOffset(last) + 4 == payload.length();
+    }
+
+    private static boolean checkCrc(CharSequence payload) {
+        int end = payload.length() - 4;
+        int crc = crc16(payload, end);
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(payload.charAt(end + i), 16);
+            if (digit != ((crc >>> (12 - i * 4)) & 0xF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 计算前 end 个字符 UTF-8 字节的 CRC，ASCII 字符直接查表，不分配内存
+     */
+    private static int crc16(CharSequence text, int end) {
+        int crc = 0xFFFF;
+        for (int i = 0; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                byte[] rest = text.subSequence(i, end).toString().getBytes(StandardCharsets.UTF_8);
+                for (byte b : rest) {
+                    crc = update(crc, b);
+                }
+                return crc;
+            }
+            crc = update(crc, (byte) c);
+        }
+        return crc;
+    }
+
+    private static int update(int crc, byte b) {
+        return ((crc << 8) ^ CRC_TABLE[((crc >>> 8) ^ b) & 0xFF]) & 0xFFFF;
+    }
+
+}
@@ -0,0 +1,106 @@
+package cn.lance.commons.util.tlv;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * BER-TLV 数据元
+ *
+ * <p>值部分为原始缓冲区的只读切片，不复制字节；构造数据元的子节点在首次访问时解析，非线程安全。</p>
+ */
+@Getter
+public class BerTlv {
+
+    /**
+     * 标签（多字节标签按大端拼接，如 0x9F02）
+     */
+    private final int tag;
+
+    /**
+     * 是否构造数据元（首字节 bit6 = 1）
+     */
+    private final boolean constructed;
+
+    private final ByteBuffer value;
+
+    private List<BerTlv> children;
+
+    BerTlv(int tag, boolean constructed, ByteBuffer value) {
+        this.tag = tag;
+        this.constructed = constructed;
+        this.value = value;
+    }
+
+    /**
+     * 获取值长度
+     *
+     * @return 字节数
+     */
+    public int getLength() {
+        return value.remaining();
+    }
+
+    /**
+     * 获取值（只读切片，不复制字节）
+     *
+     * @return 值缓冲区，position 为 0
+     */
+    public ByteBuffer getValue() {
+        return value.duplicate();
+    }
+
+    /**
+     * 复制值为字节数组
+     *
+     * @return 值字节
+     */
+    public byte[] getValueBytes() {
+        byte[] bytes = new byte[value.remaining()];
+        value.get(0, bytes);
+        return bytes;
+    }
+
+    /**
+     * 获取十六进制标签
+     *
+     * @return 大写十六进制标签，如 "9F02"
+     */
+    public String getTagHex() {
+        return BerTlvUtils.tagToHex(tag);
+    }
+
+    /**
+     * 获取子节点（仅构造数据元，首次访问时解析）
+     *
+     * @return 子节点，原始数据元返回空列表
+     */
+    public List<BerTlv> getChildren() {
+        if (children == null) {
+            children = constructed ? BerTlvUtils.parse(value) : List.of();
+        }
+        return children;
+    }
+
+    /**
+     * 查找第一个指定标签的直接子节点
+     *
+     * @param tag 标签
+     * @return 子节点，不存在返回 null
+     */
+    public BerTlv find(int tag) {
+        for (BerTlv child : getChildren()) {
+            if (child.tag == tag) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "BerTlv(tag=" + getTagHex() + ", constructed=" + constructed + ", length=" + getLength() + ")";
+    }
+
+}
@@ -0,0 +1,164 @@
+package cn.lance.commons.util.tlv;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 二进制 BER-TLV（EMV）解析工具类
+ *
+ * <p>支持多字节标签（最多 4 字节）、短格式与长格式长度（最多 4 字节）、构造数据元，
+ * 以及数据元之间的 0x00 填充字节。值部分为只读切片，不复制字节。
+ * 与 {@link TlvUtils} 一致，遇到格式错误时停止解析，返回已解析的数据元。</p>
+ */
+public class BerTlvUtils {
+
+    private BerTlvUtils() {
+    }
+
+    /**
+     * 解析字节数组
+     *
+     * @param data BER-TLV 字节
+     * @return 顶层数据元
+     */
+    public static List<BerTlv> parse(byte[] data) {
+        Objects.requireNonNull(data, "data must not be null");
+        return parse(data, 0, data.length);
+    }
+
+    /**
+     * 解析字节数组的指定区间
+     *
+     * @param data   BER-TLV 字节
+     * @param offset 起始下标
+     * @param length 字节数
+     * @return 顶层数据元
+     */
+    public static List<BerTlv> parse(byte[] data, int offset, int length) {
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.checkFromIndexSize(offset, length, data.length);
+        return parse(ByteBuffer.wrap(data, offset, length));
+    }
+
+    /**
+     * 解析缓冲区 position 到 limit 之间的字节（不改变缓冲区的 position）
+     *
+     * @param buffer BER-TLV 缓冲区
+     * @return 顶层数据元
+     */
+    public static List<BerTlv> parse(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer must not be null");
+
+        ByteBuffer source = buffer.isReadOnly() ? buffer : buffer.asReadOnlyBuffer();
+        List<BerTlv> result = new ArrayList<>();
+        int index = source.position();
+        int limit = source.limit();
+        while (index < limit) {
+            // 数据元之间的填充字节
+            int first = source.get(index) & 0xFF;
+            if (first == 0x00) {
+                index++;
+                continue;
+            }
+
+            // tag
+            int tag = first;
+            index++;
+            if ((first & 0x1F) == 0x1F) {
+                int b;
+                do {
+                    if (index >= limit || tag > 0xFFFFFF) {
+                        return result;
+                    }
+                    b = source.get(index++) & 0xFF;
+                    tag = (tag << 8) | b;
+                } while ((b & 0x80) != 0);
+            }
+
+            // length
+            if (index >= limit) {
+                break;
+            }
+            int length = source.get(index++) & 0xFF;
+            if (length > 0x80) {
+                int count = length & 0x7F;
+                if (count > 4 || index + count > limit) {
+                    break;
+                }
+                length = 0;
+                for (int i = 0; i < count; i++) {
+                    length = (length << 8) | (source.get(index++) & 0xFF);
+                }
+                if (length < 0) {
+                    break;
+                }
+            } else if (length == 0x80) {
+                // 不定长格式
+                break;
+            }
+
+            // value
+            if (length > limit - index) {
+                break;
+            }
+            result.add(new BerTlv(tag, (first & 0x20) != 0, source.slice(index, length)));
+            index += length;
+        }
+
+        return result;
+    }
+
+    /**
+     * 深度优先查找第一个指定标签的数据元
+     *
+     * @param nodes 数据元
+     * @param tag   标签
+     * @return 数据元，不存在返回 null
+     */
+    public static BerTlv find(List<BerTlv> nodes, int tag) {
+        for (BerTlv node : nodes) {
+            if (node.getTag() == tag) {
+                return node;
+            }
+            if (node.isConstructed()) {
+                BerTlv found = find(node.getChildren(), tag);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 十六进制标签转整数
+     *
+     * @param hex 十六进制标签，如 "9F02"
+     * @return 标签
+     */
+    public static int hexToTag(String hex) {
+        Objects.requireNonNull(hex, "hex must not be null");
+        if (hex.isEmpty() || hex.length() > 8 || hex.length() % 2 != 0) {
+            throw new IllegalArgumentException("Invalid tag: " + hex);
+        }
+        return (int) Long.parseLong(hex, 16);
+    }
+
+    /**
+     * 整数标签转十六进制
+     *
+     * @param tag 标签
+     * @return 大写十六进制标签，如 "9F02"
+     */
+    public static String tagToHex(int tag) {
+        int bytes = 1;
+        while (bytes < 4 && (tag >>> (bytes * 8)) != 0) {
+            bytes++;
+        }
+        return HexFormat.of().withUpperCase().toHexDigits(tag).substring(8 - bytes * 2);
+    }
+
+}
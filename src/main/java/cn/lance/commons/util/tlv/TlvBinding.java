@@ -0,0 +1,207 @@
+package cn.lance.commons.util.tlv;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * TLV 到对象的绑定计划
+ *
+ * <p>每个类型只构建一次并缓存：所有标签路径编译为一个 {@link TlvQuery}，一次扫描取出全部值；
+ * 对象通过 MethodHandle 创建与赋值。实例不可变，可在线程间共享。</p>
+ */
+class TlvBinding {
+
+    private static final ClassValue<TlvBinding> CACHE = new ClassValue<>() {
+        @Override
+        protected TlvBinding computeValue(Class<?> type) {
+            return new TlvBinding(type);
+        }
+    };
+
+    private final Class<?> type;
+
+    private final TlvQuery query;
+
+    private final List<Function<String, Object>> converters;
+
+    /**
+     * 普通类：无参构造 () -> Object
+     */
+    private MethodHandle constructor;
+
+    /**
+     * 普通类：各字段 (Object, Object) -> void
+     */
+    private MethodHandle[] setters;
+
+    /**
+     * record：规范构造 (Object[]) -> Object
+     */
+    private MethodHandle canonicalConstructor;
+
+    /**
+     * record：未找到值时的组件默认值
+     */
+    private Object[] defaults;
+
+    /**
+     * record：各路径对应的组件下标
+     */
+    private int[] components;
+
+    private TlvBinding(Class<?> type) {
+        this.type = type;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            List<String> paths = new ArrayList<>();
+            List<Function<String, Object>> converterList = new ArrayList<>();
+
+            if (type.isRecord()) {
+                RecordComponent[] recordComponents = type.getRecordComponents();
+                Class<?>[] parameterTypes = new Class<?>[recordComponents.length];
+                List<Integer> indexes = new ArrayList<>();
+                defaults = new Object[recordComponents.length];
+                for (int i = 0; i < recordComponents.length; i++) {
+                    RecordComponent component = recordComponents[i];
+                    parameterTypes[i] = component.getType();
+                    defaults[i] = defaultValue(component.getType());
+                    TlvTag tag = component.getAnnotation(TlvTag.class);
+                    if (tag != null) {
+                        paths.add(tag.value());
+                        converterList.add(converter(component.getType(), component.getName()));
+                        indexes.add(i);
+                    }
+                }
+                components = indexes.stream().mapToInt(Integer::intValue).toArray();
+                canonicalConstructor = lookup.findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                        .asSpreader(Object[].class, recordComponents.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } else {
+                List<MethodHandle> setterList = new ArrayList<>();
+                for (Class<?> c = type; c != Object.class && c != null; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        TlvTag tag = field.getAnnotation(TlvTag.class);
+                        if (tag == null) {
+                            continue;
+                        }
+                        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                            throw new IllegalArgumentException("@TlvTag field must not be static or final: " + field);
+                        }
+                        paths.add(tag.value());
+                        converterList.add(converter(field.getType(), field.getName()));
+                        setterList.add(MethodHandles.privateLookupIn(c, MethodHandles.lookup()).unreflectSetter(field)
+                                .asType(MethodType.methodType(void.class, Object.class, Object.class)));
+                    }
+                }
+                setters = setterList.toArray(new MethodHandle[0]);
+                constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            }
+
+            this.query = paths.isEmpty() ? null : TlvQuery.compile(paths.toArray(new String[0]));
+            this.converters = List.copyOf(converterList);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot bind TLV to " + type.getName(), e);
+        }
+    }
+
+    static TlvBinding of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * 绑定
+     */
+    Object bind(CharSequence text) {
+        String[] values = query == null ? new String[0] : query.findAll(text);
+        try {
+            if (canonicalConstructor != null) {
+                Object[] arguments = defaults.clone();
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] != null) {
+                        arguments[components[i]] = converters.get(i).apply(values[i]);
+                    }
+                }
+                return canonicalConstructor.invokeExact(arguments);
+            }
+
+            Object target = constructor.invokeExact();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    setters[i].invokeExact(target, converters.get(i).apply(values[i]));
+                }
+            }
+            return target;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot bind TLV to " + type.getName(), e);
+        }
+    }
+
+    private static Function<String, Object> converter(Class<?> type, String name) {
+        if (type == String.class) {
+            return value -> value;
+        }
+        if (type == int.class || type == Integer.class) {
+            return value -> parse(value, name, Integer::valueOf);
+        }
+        if (type == long.class || type == Long.class) {
+            return value -> parse(value, name, Long::valueOf);
+        }
+        if (type == BigDecimal.class) {
+            return value -> parse(value, name, BigDecimal::new);
+        }
+        if (hasTags(type)) {
+            return value -> of(type).bind(value);
+        }
+        throw new IllegalArgumentException("Unsupported @TlvTag type " + type.getName() + " for " + name);
+    }
+
+    private static Object parse(String value, String name, Function<String, Object> parser) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid TLV value for " + name + ": " + value, e);
+        }
+    }
+
+    private static boolean hasTags(Class<?> type) {
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                if (component.isAnnotationPresent(TlvTag.class)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (Class<?> c = type; c != Object.class && c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.isAnnotationPresent(TlvTag.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        }
+        try {
+            return MethodHandles.zero(type).invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package cn.lance.commons.util.tlv;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * TLV 构建器
+ *
+ * <p>直接写入预分配的 StringBuilder，嵌套数据元的长度在 {@link #end()} 时回填，无需中间字符串拼接。
+ * 格式与 {@link TlvUtils#parse(String, int)} 相同（2 位数字标签、2 位数字长度）。非线程安全。</p>
+ *
+ * <pre>{@code
+ * String payload = new TlvBuilder()
+ *         .add("00", "01")
+ *         .begin("26").add("00", "cn.lance").end()
+ *         .build();
+ * }</pre>
+ */
+public class TlvBuilder {
+
+    private final StringBuilder builder;
+
+    /**
+     * 未结束的嵌套数据元的长度位置
+     */
+    private int[] open = new int[4];
+
+    private int depth;
+
+    public TlvBuilder() {
+        this(64);
+    }
+
+    /**
+     * 构造构建器
+     *
+     * @param capacity 预分配字符数
+     */
+    public TlvBuilder(int capacity) {
+        this.builder = new StringBuilder(capacity);
+    }
+
+    /**
+     * 添加数据元
+     *
+     * @param tag   2 位数字标签
+     * @param value 值（不超过 99 个字符）
+     * @return this
+     */
+    public TlvBuilder add(String tag, CharSequence value) {
+        Objects.requireNonNull(value, "value must not be null");
+        TlvUtils.checkTag(tag);
+        // 校验通过后再写入，异常时不留下残缺的数据元
+        int length = TlvUtils.checkLength(value.length());
+        builder.append(tag).append((char) ('0' + length / 10)).append((char) ('0' + length % 10)).append(value);
+        return this;
+    }
+
+    /**
+     * 添加数据元（值为 null 时跳过）
+     *
+     * @param tag   2 位数字标签
+     * @param value 值
+     * @return this
+     */
+    public TlvBuilder addIfNotNull(String tag, CharSequence value) {
+        return value == null ? this : add(tag, value);
+    }
+
+    /**
+     * 开始嵌套数据元，之后添加的数据元作为其值，直到 {@link #end()}
+     *
+     * @param tag 2 位数字标签
+     * @return this
+     */
+    public TlvBuilder begin(String tag) {
+        builder.append(TlvUtils.checkTag(tag));
+        if (depth == open.length) {
+            open = Arrays.copyOf(open, depth * 2);
+        }
+        open[depth++] = builder.length();
+        builder.append("00");
+        return this;
+    }
+
+    /**
+     * 结束当前嵌套数据元并回填长度
+     *
+     * @return this
+     */
+    public TlvBuilder end() {
+        if (depth == 0) {
+            throw new IllegalStateException("No open TLV element");
+        }
+        int lengthIndex = open[--depth];
+        TlvUtils.setLength(builder, lengthIndex, builder.length() - lengthIndex - 2);
+        return this;
+    }
+
+    /**
+     * 当前已写入的字符数
+     *
+     * @return 字符数
+     */
+    public int length() {
+        return builder.length();
+    }
+
+    /**
+     * 生成 TLV 字符串
+     *
+     * @return TLV字符串
+     */
+    public String build() {
+        if (depth != 0) {
+            throw new IllegalStateException("Unclosed TLV elements: " + depth);
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,40 @@
+package cn.lance.commons.util.tlv;
+
+/**
+ * TLV 流式解析回调
+ *
+ * <p>每个数据元依次回调 {@link #startTag}、{@link #value}、（未达到深度限制时）子节点事件、{@link #endTag}，
+ * 与 {@link TlvUtils#parse(String, int)} 保留的 value 与 subTags 一致。层级从 1 开始，与 depth 含义一致。</p>
+ */
+public interface TlvHandler {
+
+    /**
+     * 数据元开始
+     *
+     * @param tag    标签
+     * @param length 值长度
+     * @param level  层级
+     */
+    default void startTag(String tag, int length, int level) {
+    }
+
+    /**
+     * 数据元的完整值（在子节点事件之前回调）
+     *
+     * @param tag   标签
+     * @param value 值，仅在回调期间有效
+     * @param level 层级
+     */
+    default void value(String tag, CharSequence value, int level) {
+    }
+
+    /**
+     * 数据元结束
+     *
+     * @param tag   标签
+     * @param level 层级
+     */
+    default void endTag(String tag, int level) {
+    }
+
+}
@@ -0,0 +1,166 @@
+package cn.lance.commons.util.tlv;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 预编译的 TLV 标签路径查询
+ *
+ * <p>路径由 2 位数字标签和 "." 组成，如 "62.05" 表示标签 62 的值中的标签 05。
+ * 查询直接在原始字符序列上进行：不在路径上的数据元按长度跳过，不创建任何节点；
+ * 多个路径编译为前缀树，一次扫描取出全部值。每层只匹配第一个同名标签，与 {@link TlvView#indexOf(int)} 一致。
+ * 编译后的实例不可变，可在线程间共享。</p>
+ *
+ * <pre>{@code
+ * TlvQuery query = TlvQuery.compile("26.00", "53", "62.05");
+ * String[] values = query.findAll(payload);
+ * }</pre>
+ */
+public class TlvQuery {
+
+    private static final int TAG_COUNT = 100;
+
+    private final String[] paths;
+
+    /**
+     * 前缀树节点的子节点：children[node][tag] = 子节点编号，0 表示不存在（0 为根节点）
+     */
+    private final int[][] children;
+
+    /**
+     * 前缀树节点对应的路径下标
+     */
+    private final int[][] slots;
+
+    private TlvQuery(String[] paths, int[][] children, int[][] slots) {
+        this.paths = paths;
+        this.children = children;
+        this.slots = slots;
+    }
+
+    /**
+     * 编译标签路径
+     *
+     * @param paths 标签路径，如 "62.05"
+     * @return 查询
+     * @throws IllegalArgumentException 路径格式错误
+     */
+    public static TlvQuery compile(String... paths) {
+        Objects.requireNonNull(paths, "paths must not be null");
+        if (paths.length == 0) {
+            throw new IllegalArgumentException("At least one path is required");
+        }
+
+        int capacity = 1;
+        for (String path : paths) {
+            Objects.requireNonNull(path, "path must not be null");
+            capacity += (path.length() + 1) / 3;
+        }
+        int[][] children = new int[capacity][];
+        int[][] slots = new int[capacity][];
+        int nodes = 1;
+
+        for (int p = 0; p < paths.length; p++) {
+            String path = paths[p];
+            if (path.isEmpty() || path.length() % 3 != 2) {
+                throw new IllegalArgumentException("Invalid TLV path: " + path);
+            }
+            int node = 0;
+            for (int i = 0; i < path.length(); i += 3) {
+                if (i > 0 && path.charAt(i - 1) != '.') {
+                    throw new IllegalArgumentException("Invalid TLV path: " + path);
+                }
+                int tag = TlvUtils.number(path, i);
+                if (tag < 0) {
+                    throw new IllegalArgumentException("Invalid TLV path: " + path);
+                }
+                if (children[node] == null) {
+                    children[node] = new int[TAG_COUNT];
+                }
+                if (children[node][tag] == 0) {
+                    children[node][tag] = nodes++;
+                }
+                node = children[node][tag];
+            }
+            slots[node] = slots[node] == null ? new int[]{p} : append(slots[node], p);
+        }
+
+        return new TlvQuery(paths.clone(), children, slots);
+    }
+
+    /**
+     * 获取路径
+     *
+     * @return 路径副本
+     */
+    public String[] getPaths() {
+        return paths.clone();
+    }
+
+    /**
+     * 查询第一个路径的值
+     *
+     * @param text TLV字符序列
+     * @return 值，不存在返回 null
+     */
+    public String find(CharSequence text) {
+        return findAll(text)[0];
+    }
+
+    /**
+     * 一次扫描查询全部路径的值
+     *
+     * @param text TLV字符序列
+     * @return 与路径顺序对应的值，不存在的为 null
+     */
+    public String[] findAll(CharSequence text) {
+        String[] values = new String[paths.length];
+        if (text != null) {
+            scan(text, 0, text.length(), 0, values, new boolean[children.length], new int[]{paths.length});
+        }
+        return values;
+    }
+
+    /**
+     * 扫描一层数据元，返回 false 表示全部路径已找到
+     */
+    private boolean scan(CharSequence text, int start, int end, int node, String[] values, boolean[] visited, int[] remaining) {
+        int[] next = children[node];
+        int position = start;
+        while (position + 4 <= end) {
+            int tag = TlvUtils.number(text, position);
+            int length = tag < 0 ? -1 : TlvUtils.number(text, position + 2);
+            int valueStart = position + 4;
+            if (length < 0 || valueStart + length > end) {
+                break;
+            }
+
+            int child = next[tag];
+            if (child != 0 && !visited[child]) {
+                visited[child] = true;
+                if (slots[child] != null) {
+                    String value = text.subSequence(valueStart, valueStart + length).toString();
+                    for (int slot : slots[child]) {
+                        values[slot] = value;
+                    }
+                    remaining[0] -= slots[child].length;
+                    if (remaining[0] == 0) {
+                        return false;
+                    }
+                }
+                if (children[child] != null && !scan(text, valueStart, valueStart + length, child, values, visited, remaining)) {
+                    return false;
+                }
+            }
+            position = valueStart + length;
+        }
+        return true;
+    }
+
+    private static int[] append(int[] array, int value) {
+        int[] result = Arrays.copyOf(array, array.length + 1);
+        result[array.length] = value;
+        return result;
+    }
+
+}
@@ -0,0 +1,186 @@
+package cn.lance.commons.util.tlv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * TLV 流式读取器
+ *
+ * <p>逐个读取顶层数据元，适用于由大量 TLV 记录拼接而成的大文件。单个数据元最多 103 个字符，
+ * 内存占用与文件大小无关。既可作为迭代器拉取 {@link TlvNode}，也可通过 {@link #read(TlvHandler)} 推送事件。
+ * 与 {@link TlvUtils} 一致，遇到格式错误或不完整的数据元时停止读取，可通过 {@link #getOffset()} 判断读取位置。
+ * 非线程安全。</p>
+ */
+public class TlvReader implements Iterator<TlvNode>, Closeable {
+
+    /**
+     * 单个数据元最大长度：2 位标签 + 2 位长度 + 99 位值
+     */
+    private static final int MAX_ELEMENT_LENGTH = 103;
+
+    private final Reader reader;
+
+    private final int depth;
+
+    private final char[] buffer = new char[8192];
+
+    private int position;
+
+    private int limit;
+
+    private final char[] element = new char[MAX_ELEMENT_LENGTH];
+
+    /**
+     * 已读取但未消费的数据元长度，-1 表示没有
+     */
+    private int elementLength = -1;
+
+    private long offset;
+
+    private boolean finished;
+
+    /**
+     * 默认深度 2 层
+     *
+     * @param reader 字符输入
+     */
+    public TlvReader(Reader reader) {
+        this(reader, 2);
+    }
+
+    /**
+     * @param reader 字符输入
+     * @param depth  解析深度（解析 N 层就传数字 N ）
+     */
+    public TlvReader(Reader reader, int depth) {
+        this.reader = Objects.requireNonNull(reader, "reader must not be null");
+        this.depth = depth;
+    }
+
+    /**
+     * @param channel 字节通道
+     * @param charset 字符集
+     * @param depth   解析深度（解析 N 层就传数字 N ）
+     */
+    public TlvReader(ReadableByteChannel channel, Charset charset, int depth) {
+        this(Channels.newReader(Objects.requireNonNull(channel, "channel must not be null"), charset), depth);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return fetch();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public TlvNode next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TlvNode node = new TlvView(CharBuffer.wrap(element, 0, elementLength), 0, elementLength).toTlvNode(0, depth);
+        consume();
+        return node;
+    }
+
+    /**
+     * 读取剩余全部数据元并推送事件
+     *
+     * @param handler 回调
+     * @throws IOException 读取失败
+     */
+    public void read(TlvHandler handler) throws IOException {
+        Objects.requireNonNull(handler, "handler must not be null");
+        while (fetch()) {
+            emit(new TlvView(CharBuffer.wrap(element, 0, elementLength), 0, elementLength), 1, handler);
+            consume();
+        }
+    }
+
+    /**
+     * 已消费的完整数据元的字符数
+     *
+     * @return 字符偏移
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void emit(TlvView view, int level, TlvHandler handler) {
+        for (int i = 0; i < view.size(); i++) {
+            String tag = view.tagText(i);
+            int length = view.length(i);
+            handler.startTag(tag, length, level);
+            // 先回调完整的值，与 parse() 保留 value 一致；子节点无法解析的部分也不会丢失
+            handler.value(tag, CharBuffer.wrap(element, view.valueOffset(i), length), level);
+            if (length > 0 && level < depth) {
+                emit(view.child(i), level + 1, handler);
+            }
+            handler.endTag(tag, level);
+        }
+    }
+
+    private void consume() {
+        offset += elementLength;
+        elementLength = -1;
+    }
+
+    /**
+     * 读取下一个完整的顶层数据元到 element
+     */
+    private boolean fetch() throws IOException {
+        if (elementLength >= 0) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+
+        if (readFully(0, 4) && Character.isDigit(element[0]) && Character.isDigit(element[1])
+                && Character.isDigit(element[2]) && Character.isDigit(element[3])) {
+            int length = Character.digit(element[2], 10) * 10 + Character.digit(element[3], 10);
+            if (readFully(4, length)) {
+                elementLength = 4 + length;
+                return true;
+            }
+        }
+        finished = true;
+        return false;
+    }
+
+    private boolean readFully(int off, int len) throws IOException {
+        while (len > 0) {
+            if (position == limit) {
+                int read = reader.read(buffer);
+                if (read < 0) {
+                    return false;
+                }
+                position = 0;
+                limit = read;
+            }
+            int count = Math.min(len, limit - position);
+            System.arraycopy(buffer, position, element, off, count);
+            position += count;
+            off += count;
+            len -= count;
+        }
+        return true;
+    }
+
+}
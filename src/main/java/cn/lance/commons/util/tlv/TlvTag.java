@@ -0,0 +1,27 @@
+package cn.lance.commons.util.tlv;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * TLV 标签绑定
+ *
+ * <p>标注在字段或 record 组件上，值为标签路径（如 "53"、"62.05"），语法同 {@link TlvQuery}。
+ * 字段类型支持 String、int/Integer、long/Long、BigDecimal，以及含 {@code @TlvTag} 的嵌套类型（按该值继续绑定）。</p>
+ *
+ * @see TlvUtils#bind(CharSequence, Class)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+public @interface TlvTag {
+
+    /**
+     * 标签路径
+     */
+    String value();
+
+}
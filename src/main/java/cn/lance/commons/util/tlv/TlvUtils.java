@@ -1,15 +1,25 @@
 package cn.lance.commons.util.tlv;
 
-import org.apache.commons.lang3.StringUtils;
-
+import java.io.Serial;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
 
 /**
  * Tag-Length-Value解析工具类
  */
 public class TlvUtils {
 
+    /**
+     * 并行解析时每个任务的最少条数
+     */
+    private static final int PARALLEL_MIN_BATCH = 256;
+
     private TlvUtils() {
     }
 
@@ -31,59 +41,271 @@ public class TlvUtils {
      * @return 解析对象
      */
     public static List<TlvNode> parse(String text, int depth) {
-        List<TlvNode> result = new ArrayList<>();
-
         if (text == null || text.isEmpty()) {
-            return result;
+            return new ArrayList<>();
         }
 
-        int index = 0;
-        while (index < text.length()) {
-            // tag
-            if (index + 2 > text.length()) {
-                break;
-            }
-            String tag = text.substring(index, index + 2);
-            if (!StringUtils.isNumeric(tag)) {
-                break;
-            }
-            index += 2;
+        return parse(text, 0, text.length(), depth);
+    }
 
-            // length
-            if (index + 2 > text.length()) {
-                break;
-            }
-            String lengthStr = text.substring(index, index + 2);
-            if (!StringUtils.isNumeric(lengthStr)) {
-                break;
-            }
-            int length = Integer.parseInt(lengthStr);
-            index += 2;
+    /**
+     * 按偏移解析 [start, end) 区间，嵌套层级直接在原字符串上继续解析，不复制中间值
+     */
+    private static List<TlvNode> parse(String text, int start, int end, int depth) {
+        List<TlvNode> result = new ArrayList<>();
 
-            // value
-            String value = "";
-            if (index + length > text.length()) {
+        int index = start;
+        while (index + 4 <= end) {
+            // tag & length
+            int tag = number(text, index);
+            int length = tag < 0 ? -1 : number(text, index + 2);
+            if (length < 0 || index + 4 + length > end) {
                 break;
             }
-            List<TlvNode> subTags = null;
-            if (length > 0) {
-                value = text.substring(index, index + length);
-                if (depth > 1) {
-                    subTags = parse(value, depth - 1);
-                }
-                index += length;
-            }
+            int valueStart = index + 4;
 
             // item
             TlvNode obj = new TlvNode();
-            obj.setTag(tag);
+            obj.setTag(text.substring(index, index + 2));
             obj.setLength(length);
-            obj.setValue(value);
-            obj.setSubTags(subTags);
+            obj.setValue(length > 0 ? text.substring(valueStart, valueStart + length) : "");
+            obj.setSubTags(length > 0 && depth > 1 ? parse(text, valueStart, valueStart + length, depth - 1) : null);
             result.add(obj);
+
+            index = valueStart + length;
         }
 
         return result;
     }
 
+    /**
+     * 并行批量解析（公共 ForkJoinPool），结果与输入顺序一致
+     *
+     * @param texts TLV字符串
+     * @param depth 解析深度（解析 N 层就传数字 N ）
+     * @return 与输入顺序对应的解析对象
+     */
+    public static List<List<TlvNode>> parseAll(List<String> texts, int depth) {
+        return parseAll(texts, depth, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 在指定 ForkJoinPool 上并行批量解析，结果与输入顺序一致
+     *
+     * @param texts TLV字符串
+     * @param depth 解析深度（解析 N 层就传数字 N ）
+     * @param pool  线程池
+     * @return 与输入顺序对应的解析对象
+     */
+    public static List<List<TlvNode>> parseAll(List<String> texts, int depth, ForkJoinPool pool) {
+        Objects.requireNonNull(texts, "texts must not be null");
+        Objects.requireNonNull(pool, "pool must not be null");
+
+        // 复制为数组，避免 LinkedList 等按下标访问的开销
+        String[] source = texts.toArray(new String[0]);
+        List<List<TlvNode>> result = new ArrayList<>(Collections.nCopies(source.length, null));
+        int threshold = Math.max(PARALLEL_MIN_BATCH, source.length / (pool.getParallelism() * 4));
+        pool.invoke(new ParseTask(source, result, depth, 0, source.length, threshold));
+        return result;
+    }
+
+    /**
+     * 并行批量解析流（公共 ForkJoinPool），结果与流的顺序一致
+     *
+     * @param texts TLV字符串流
+     * @param depth 解析深度（解析 N 层就传数字 N ）
+     * @return 与输入顺序对应的解析对象
+     */
+    public static List<List<TlvNode>> parseAll(Stream<String> texts, int depth) {
+        Objects.requireNonNull(texts, "texts must not be null");
+        return texts.parallel().map(text -> parse(text, depth)).toList();
+    }
+
+    /**
+     * 绑定到对象
+     *
+     * <p>按 {@link TlvTag} 标注的标签路径赋值，未找到的标签保持默认值；映射计划按类型缓存。
+     * 普通类需有无参构造方法，record 通过规范构造方法创建。</p>
+     *
+     * @param text TLV字符序列
+     * @param type 目标类型
+     * @param <T>  目标类型
+     * @return 对象
+     * @throws IllegalArgumentException 类型不支持绑定或值格式错误
+     */
+    public static <T> T bind(CharSequence text, Class<T> type) {
+        Objects.requireNonNull(type, "type must not be null");
+        return type.cast(TlvBinding.of(type).bind(text));
+    }
+
+    /**
+     * 创建轻量视图（只记录偏移，嵌套层级按需解析）
+     *
+     * @param text TLV字符序列
+     * @return TLV视图
+     */
+    public static TlvView view(CharSequence text) {
+        Objects.requireNonNull(text, "text must not be null");
+        return new TlvView(text, 0, text.length());
+    }
+
+    /**
+     * 编码 TlvNode 列表
+     *
+     * <p>value 非空时直接使用 value，否则按 subTags 编码作为值；length 字段忽略，按实际值长度重新计算。
+     * 因此对合法的 TLV 字符串 text，有 {@code encode(parse(text, depth)).equals(text)}；
+     * 修改解析结果的子节点后，需将父节点的 value 置为 null 才会重新编码子节点。</p>
+     *
+     * @param nodes 节点
+     * @return TLV字符串
+     * @throws IllegalArgumentException 标签不是 2 位数字或值长度超过 99
+     */
+    public static String encode(List<TlvNode> nodes) {
+        Objects.requireNonNull(nodes, "nodes must not be null");
+        StringBuilder builder = new StringBuilder(encodedLength(nodes));
+        encode(nodes, builder);
+        return builder.toString();
+    }
+
+    /**
+     * 编码 TlvNode 列表为 UTF-8 字节
+     *
+     * @param nodes 节点
+     * @return TLV字节
+     */
+    public static byte[] encodeToBytes(List<TlvNode> nodes) {
+        return encode(nodes).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 编码 TlvNode 列表并追加到 StringBuilder
+     *
+     * @param nodes   节点
+     * @param builder 目标 StringBuilder
+     * @return 目标 StringBuilder
+     */
+    public static StringBuilder encode(List<TlvNode> nodes, StringBuilder builder) {
+        Objects.requireNonNull(nodes, "nodes must not be null");
+        Objects.requireNonNull(builder, "builder must not be null");
+        for (TlvNode node : nodes) {
+            builder.append(checkTag(node.getTag()));
+            // 长度先占位，写完值后回填
+            int lengthIndex = builder.length();
+            builder.append("00");
+            String value = node.getValue();
+            if (value != null && !value.isEmpty()) {
+                builder.append(value);
+            } else if (node.getSubTags() != null) {
+                encode(node.getSubTags(), builder);
+            }
+            setLength(builder, lengthIndex, builder.length() - lengthIndex - 2);
+        }
+        return builder;
+    }
+
+    /**
+     * 计算编码后的长度（用于预分配）
+     */
+    private static int encodedLength(List<TlvNode> nodes) {
+        int length = 0;
+        for (TlvNode node : nodes) {
+            String value = node.getValue();
+            if (value != null && !value.isEmpty()) {
+                length += 4 + value.length();
+            } else {
+                length += 4 + (node.getSubTags() == null ? 0 : encodedLength(node.getSubTags()));
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 校验标签为 2 位数字
+     */
+    static String checkTag(String tag) {
+        if (tag == null || tag.length() != 2 || !isDigit(tag.charAt(0)) || !isDigit(tag.charAt(1))) {
+            throw new IllegalArgumentException("Invalid TLV tag: " + tag);
+        }
+        return tag;
+    }
+
+    /**
+     * 校验值长度不超过 99
+     */
+    static int checkLength(int length) {
+        if (length > 99) {
+            throw new IllegalArgumentException("TLV value too long: " + length);
+        }
+        return length;
+    }
+
+    /**
+     * 回填 2 位长度
+     */
+    static void setLength(StringBuilder builder, int index, int length) {
+        checkLength(length);
+        builder.setCharAt(index, (char) ('0' + length / 10));
+        builder.setCharAt(index + 1, (char) ('0' + length % 10));
+    }
+
+    /**
+     * 解析 2 位数字（与 Character.isDigit 一致，兼容原实现的 StringUtils.isNumeric），非数字返回 -1
+     */
+    static int number(CharSequence text, int position) {
+        char first = text.charAt(position);
+        char second = text.charAt(position + 1);
+        if (!Character.isDigit(first) || !Character.isDigit(second)) {
+            return -1;
+        }
+        return Character.digit(first, 10) * 10 + Character.digit(second, 10);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * 按下标区间二分的批量解析任务
+     */
+    private static class ParseTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final String[] source;
+
+        private final transient List<List<TlvNode>> result;
+
+        private final int depth;
+
+        private final int from;
+
+        private final int to;
+
+        private final int threshold;
+
+        ParseTask(String[] source, List<List<TlvNode>> result, int depth, int from, int to, int threshold) {
+            this.source = source;
+            this.result = result;
+            this.depth = depth;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    result.set(i, parse(source[i], depth));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParseTask(source, result, depth, from, middle, threshold),
+                    new ParseTask(source, result, depth, middle, to, threshold));
+        }
+
+    }
+
 }
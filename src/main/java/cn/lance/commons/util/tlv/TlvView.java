@@ -0,0 +1,245 @@
+package cn.lance.commons.util.tlv;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * TLV 轻量视图
+ *
+ * <p>只记录各数据元在原始字符序列中的偏移，不复制子串；标签通过首次查找时构建的 100 项索引查找，
+ * 嵌套层级在首次访问时解析。格式与 {@link TlvUtils#parse(String, int)} 相同（2 位数字标签、2 位数字长度），
+ * 遇到格式错误时停止解析。非线程安全。</p>
+ */
+public class TlvView {
+
+    private static final int TAG_COUNT = 100;
+
+    private final CharSequence text;
+
+    private int size;
+
+    /**
+     * 标签数值（00 ~ 99）
+     */
+    private int[] tags;
+
+    /**
+     * 值起始偏移（相对原始字符序列）
+     */
+    private int[] offsets;
+
+    private int[] lengths;
+
+    /**
+     * 标签 → 第一个数据元下标，不存在为 -1；首次查找时构建
+     */
+    private int[] index;
+
+    private TlvView[] children;
+
+    TlvView(CharSequence text, int start, int end) {
+        this.text = text;
+        this.tags = new int[8];
+        this.offsets = new int[8];
+        this.lengths = new int[8];
+
+        int position = start;
+        while (position + 4 <= end) {
+            int tag = TlvUtils.number(text, position);
+            int length = tag < 0 ? -1 : TlvUtils.number(text, position + 2);
+            if (length < 0 || position + 4 + length > end) {
+                break;
+            }
+            add(tag, position + 4, length);
+            position += 4 + length;
+        }
+    }
+
+    /**
+     * 获取数据元个数
+     *
+     * @return 个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 获取标签
+     *
+     * @param i 数据元下标
+     * @return 标签数值（00 ~ 99）
+     */
+    public int tag(int i) {
+        return tags[checkIndex(i)];
+    }
+
+    /**
+     * 获取标签文本
+     *
+     * @param i 数据元下标
+     * @return 2 位标签
+     */
+    public String tagText(int i) {
+        checkIndex(i);
+        return text.subSequence(offsets[i] - 4, offsets[i] - 2).toString();
+    }
+
+    /**
+     * 获取值长度
+     *
+     * @param i 数据元下标
+     * @return 长度
+     */
+    public int length(int i) {
+        return lengths[checkIndex(i)];
+    }
+
+    /**
+     * 获取值在原始字符序列中的起始偏移
+     *
+     * @param i 数据元下标
+     * @return 起始偏移
+     */
+    public int valueOffset(int i) {
+        return offsets[checkIndex(i)];
+    }
+
+    /**
+     * 获取值（复制为字符串）
+     *
+     * @param i 数据元下标
+     * @return 值
+     */
+    public String value(int i) {
+        checkIndex(i);
+        return text.subSequence(offsets[i], offsets[i] + lengths[i]).toString();
+    }
+
+    /**
+     * 查找第一个指定标签的数据元
+     *
+     * @param tag 标签数值（00 ~ 99）
+     * @return 数据元下标，不存在返回 -1
+     */
+    public int indexOf(int tag) {
+        if (tag < 0 || tag >= TAG_COUNT) {
+            return -1;
+        }
+        if (index == null) {
+            index = new int[TAG_COUNT];
+            Arrays.fill(index, -1);
+            for (int i = size - 1; i >= 0; i--) {
+                index[tags[i]] = i;
+            }
+        }
+        return index[tag];
+    }
+
+    /**
+     * 查找第一个指定标签的数据元
+     *
+     * @param tag 2 位数字标签，如 "62"
+     * @return 数据元下标，不存在返回 -1
+     */
+    public int indexOf(String tag) {
+        if (tag == null || tag.length() != 2) {
+            return -1;
+        }
+        int first = Character.digit(tag.charAt(0), 10);
+        int second = Character.digit(tag.charAt(1), 10);
+        return first < 0 || second < 0 ? -1 : indexOf(first * 10 + second);
+    }
+
+    /**
+     * 获取第一个指定标签的值
+     *
+     * @param tag 2 位数字标签
+     * @return 值，不存在返回 null
+     */
+    public String get(String tag) {
+        int i = indexOf(tag);
+        return i < 0 ? null : value(i);
+    }
+
+    /**
+     * 获取嵌套视图（首次访问时解析）
+     *
+     * @param i 数据元下标
+     * @return 值的 TLV 视图
+     */
+    public TlvView child(int i) {
+        checkIndex(i);
+        if (children == null) {
+            children = new TlvView[size];
+        }
+        TlvView child = children[i];
+        if (child == null) {
+            child = new TlvView(text, offsets[i], offsets[i] + lengths[i]);
+            children[i] = child;
+        }
+        return child;
+    }
+
+    /**
+     * 获取第一个指定标签的嵌套视图
+     *
+     * @param tag 2 位数字标签
+     * @return 值的 TLV 视图，不存在返回 null
+     */
+    public TlvView child(String tag) {
+        int i = indexOf(tag);
+        return i < 0 ? null : child(i);
+    }
+
+    /**
+     * 转换为 TlvNode 列表，结果与 {@link TlvUtils#parse(String, int)} 一致
+     *
+     * @param depth 解析深度
+     * @return 解析对象
+     */
+    public List<TlvNode> toTlvNodes(int depth) {
+        List<TlvNode> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(toTlvNode(i, depth));
+        }
+        return result;
+    }
+
+    /**
+     * 转换单个数据元为 TlvNode
+     *
+     * @param i     数据元下标
+     * @param depth 解析深度
+     * @return 解析对象
+     */
+    public TlvNode toTlvNode(int i, int depth) {
+        checkIndex(i);
+        TlvNode node = new TlvNode();
+        node.setTag(tagText(i));
+        node.setLength(lengths[i]);
+        node.setValue(lengths[i] > 0 ? value(i) : "");
+        node.setSubTags(lengths[i] > 0 && depth > 1 ? child(i).toTlvNodes(depth - 1) : null);
+        return node;
+    }
+
+    private void add(int tag, int offset, int length) {
+        if (size == tags.length) {
+            int capacity = size * 2;
+            tags = Arrays.copyOf(tags, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        tags[size] = tag;
+        offsets[size] = offset;
+        lengths[size] = length;
+        size++;
+    }
+
+    private int checkIndex(int i) {
+        return Objects.checkIndex(i, size);
+    }
+
+}
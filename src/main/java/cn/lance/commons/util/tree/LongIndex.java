@@ -0,0 +1,85 @@
+package cn.lance.commons.util.tree;
+
+/**
+ * long 键到 int 下标的开放寻址哈希表（线性探测），不装箱
+ *
+ * <p>键与值交错存放在同一个 long 数组中，一次探测只访问一个缓存行；键经 MurmurHash3 混淆，
+ * 避免 Snowflake 等有位规律的 ID 聚集。仅支持插入与查询，容量在构造时按预期元素数固定。非线程安全。</p>
+ */
+class LongIndex {
+
+    /**
+     * 最大元素数，保证 table 长度不超过数组上限
+     */
+    static final int MAX_SIZE = 1 << 28;
+
+    /**
+     * table[2 * slot] 为键，table[2 * slot + 1] 为下标 + 1（0 表示空槽）
+     */
+    private final long[] table;
+
+    private final int shift;
+
+    private final int mask;
+
+    /**
+     * @param expectedSize 预期元素数，不超过 {@link #MAX_SIZE}
+     * @throws IllegalArgumentException 预期元素数超过 {@link #MAX_SIZE}
+     */
+    LongIndex(int expectedSize) {
+        if (expectedSize > MAX_SIZE) {
+            throw new IllegalArgumentException("Expected size must not exceed " + MAX_SIZE);
+        }
+        // 负载因子不超过 0.5
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1;
+        this.table = new long[capacity * 2];
+        this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 插入，键已存在时保留原值
+     *
+     * @return 是否插入
+     */
+    boolean putIfAbsent(long key, int value) {
+        int slot = slot(key);
+        while (table[slot * 2 + 1] != 0) {
+            if (table[slot * 2] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot * 2] = key;
+        table[slot * 2 + 1] = value + 1L;
+        return true;
+    }
+
+    /**
+     * 查询
+     *
+     * @return 下标，不存在返回 -1
+     */
+    int get(long key) {
+        int slot = slot(key);
+        long value;
+        while ((value = table[slot * 2 + 1]) != 0) {
+            if (table[slot * 2] == key) {
+                return (int) (value - 1);
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * MurmurHash3 fmix64 混淆后取高位
+     */
+    private int slot(long key) {
+        long h = key;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return (int) ((h ^ (h >>> 33)) >>> shift);
+    }
+
+}
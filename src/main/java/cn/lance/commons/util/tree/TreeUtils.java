@@ -1,6 +1,8 @@
 package cn.lance.commons.util.tree;
 
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -51,4 +53,62 @@ public class TreeUtils {
         return roots;
     }
 
+    /**
+     * 构建任意类型节点的树，返回根节点列表
+     *
+     * <p>使用 long 键的开放寻址索引，ID 不装箱。父 ID 等于 rootParentId 的节点为根节点，
+     * 父节点不存在的节点被丢弃，ID 重复时以第一个为准；子节点按输入顺序通过 addChild 挂到父节点下。</p>
+     *
+     * @param nodes        扁平节点列表
+     * @param idGetter     节点 ID
+     * @param parentGetter 父节点 ID
+     * @param rootParentId 根节点的父 ID（如 0）
+     * @param addChild     添加子节点：(父节点, 子节点)
+     * @param <T>          节点类型
+     * @return 根节点列表
+     * @throws IllegalArgumentException 节点数超过 2^28
+     */
+    public static <T> List<T> build(List<T> nodes, ToLongFunction<? super T> idGetter, ToLongFunction<? super T> parentGetter,
+                                    long rootParentId, BiConsumer<? super T, ? super T> addChild) {
+        Objects.requireNonNull(nodes, "nodes must not be null");
+        Objects.requireNonNull(idGetter, "idGetter must not be null");
+        Objects.requireNonNull(parentGetter, "parentGetter must not be null");
+        Objects.requireNonNull(addChild, "addChild must not be null");
+
+        if (nodes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Object[] array = nodes.toArray();
+        LongIndex index = new LongIndex(array.length);
+        for (int i = 0; i < array.length; i++) {
+            T node = elementAt(array, i);
+            index.putIfAbsent(idGetter.applyAsLong(node), i);
+        }
+
+        List<T> roots = new ArrayList<>();
+        for (int i = 0; i < array.length; i++) {
+            T node = elementAt(array, i);
+            long parentId = parentGetter.applyAsLong(node);
+            if (parentId == rootParentId) {
+                roots.add(node);
+            } else {
+                int parent = index.get(parentId);
+                if (parent >= 0) {
+                    addChild.accept(elementAt(array, parent), node);
+                }
+            }
+        }
+
+        return roots;
+    }
+
+    /**
+     * 取出 {@link List#toArray()} 结果中的元素，元素均来自 List&lt;T&gt;
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T elementAt(Object[] array, int index) {
+        return (T) array[index];
+    }
+
 }
@@ -0,0 +1,57 @@
+package cn.lance.commons.util.uuid;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存时钟
+ *
+ * <p>由后台守护线程按固定间隔刷新系统时间，读取时只是一次 volatile 读，以精度换取速度。
+ * 读取到的时间最多落后系统时钟一个刷新间隔。使用完毕后应调用 {@link #close()} 停止后台线程。</p>
+ */
+public class CachedTimeSource implements TimeSource, AutoCloseable {
+
+    private final ScheduledExecutorService ticker;
+
+    private volatile long now;
+
+    /**
+     * 构造缓存时钟，每毫秒刷新一次
+     */
+    public CachedTimeSource() {
+        this(1);
+    }
+
+    /**
+     * 构造缓存时钟
+     *
+     * @param tickMillis 刷新间隔（毫秒）
+     */
+    public CachedTimeSource(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick millis must be positive");
+        }
+        this.now = System.currentTimeMillis();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cached-time-source");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(() -> now = System.currentTimeMillis(), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now;
+    }
+
+    /**
+     * 停止后台刷新线程
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+}
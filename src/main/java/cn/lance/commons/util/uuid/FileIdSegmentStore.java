@@ -0,0 +1,75 @@
+package cn.lance.commons.util.uuid;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * 基于本地文件的号段存储
+ *
+ * <p>每个业务键对应目录下的一个文件，保存已分配的最大 ID（8 字节）。预留在文件锁保护下进行，
+ * 同一主机的多个进程可共享同一目录。ID 从 1 开始。</p>
+ */
+public class FileIdSegmentStore implements IdSegmentStore {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_.-]+");
+
+    /**
+     * 同一 JVM 内 FileLock 不可重叠获取，进程内的预留需额外串行化
+     */
+    private static final Object LOCK = new Object();
+
+    private final Path directory;
+
+    /**
+     * 构造号段存储
+     *
+     * @param directory 存储目录，不存在时自动创建
+     */
+    public FileIdSegmentStore(Path directory) {
+        Objects.requireNonNull(directory, "directory must not be null");
+        this.directory = directory;
+    }
+
+    @Override
+    public long allocate(String key, int step) {
+        Objects.requireNonNull(key, "key must not be null");
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid segment key: " + key);
+        }
+        if (step <= 0) {
+            throw new IllegalArgumentException("Step must be positive");
+        }
+
+        synchronized (LOCK) {
+            try {
+                Files.createDirectories(directory);
+                try (FileChannel channel = FileChannel.open(directory.resolve(key + ".seg"),
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    FileLock lock = channel.lock();
+                    try {
+                        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+                        long max = channel.read(buffer, 0) == Long.BYTES ? buffer.getLong(0) : 0L;
+
+                        buffer.clear();
+                        buffer.putLong(0, Math.addExact(max, step));
+                        channel.write(buffer, 0);
+                        channel.force(false);
+                        return max + 1;
+                    } finally {
+                        lock.release();
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package cn.lance.commons.util.uuid;
+
+/**
+ * 号段存储
+ *
+ * <p>为 {@link SegmentIdUtils} 持久化各业务键已分配的最大 ID，每次预留一段连续的 ID。
+ * 实现必须保证同一键的多次预留（包括跨进程）互不重叠。</p>
+ */
+@FunctionalInterface
+public interface IdSegmentStore {
+
+    /**
+     * 预留一段连续 ID
+     *
+     * @param key  业务键
+     * @param step 号段长度
+     * @return 号段的第一个 ID，调用方独占 [first, first + step)
+     */
+    long allocate(String key, int step);
+
+}
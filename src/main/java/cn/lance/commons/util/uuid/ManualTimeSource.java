@@ -0,0 +1,55 @@
+package cn.lance.commons.util.uuid;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 手动时钟
+ *
+ * <p>时间只在显式调用 {@link #set(long)} 或 {@link #advance(long)} 时改变，
+ * 用于在测试中确定性地模拟序列用尽和时钟回拨，无需 sleep。</p>
+ */
+public class ManualTimeSource implements TimeSource {
+
+    private final AtomicLong now;
+
+    /**
+     * 构造手动时钟，初始时间为当前系统时间
+     */
+    public ManualTimeSource() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * 构造手动时钟
+     *
+     * @param initialMillis 初始时间（毫秒）
+     */
+    public ManualTimeSource(long initialMillis) {
+        this.now = new AtomicLong(initialMillis);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now.get();
+    }
+
+    /**
+     * 设置当前时间，允许设置为更早的时间以模拟时钟回拨
+     *
+     * @param millis 时间（毫秒）
+     */
+    public void set(long millis) {
+        now.set(millis);
+    }
+
+    /**
+     * 调整当前时间
+     *
+     * @param deltaMillis 增量（毫秒），负数表示回拨
+     * @return 调整后的时间（毫秒）
+     */
+    public long advance(long deltaMillis) {
+        return now.addAndGet(deltaMillis);
+    }
+
+}
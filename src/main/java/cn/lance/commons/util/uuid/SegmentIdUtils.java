@@ -0,0 +1,168 @@
+package cn.lance.commons.util.uuid;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 号段（双缓冲）ID 生成器
+ *
+ * <p>从 {@link IdSegmentStore} 批量预留一段连续 ID，在内存中通过一次原子自增发放，不依赖时钟。
+ * 当前号段使用超过预取比例后，异步预取下一号段；当前号段用尽时直接切换，通常无需等待存储。</p>
+ *
+ * <p>进程重启会丢弃未用完的号段，因此 ID 是稠密的但允许存在空洞。</p>
+ */
+public class SegmentIdUtils {
+
+    /**
+     * 默认预取比例：当前号段已发放 10% 时预取下一号段
+     */
+    private static final double DEFAULT_PREFETCH_RATIO = 0.1;
+
+    private static final Segment EMPTY = new Segment(0, 0, 0);
+
+    private final IdSegmentStore store;
+
+    private final String key;
+
+    private final int step;
+
+    private final double prefetchRatio;
+
+    private final Executor executor;
+
+    private volatile Segment current = EMPTY;
+
+    private final AtomicReference<CompletableFuture<Segment>> next = new AtomicReference<>();
+
+    /**
+     * 构造号段 ID 生成器
+     *
+     * @param store 号段存储
+     * @param key   业务键
+     * @param step  号段长度
+     */
+    public SegmentIdUtils(IdSegmentStore store, String key, int step) {
+        this(store, key, step, DEFAULT_PREFETCH_RATIO, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 构造号段 ID 生成器
+     *
+     * @param store         号段存储
+     * @param key           业务键
+     * @param step          号段长度
+     * @param prefetchRatio 预取比例（0, 1]，当前号段发放到该比例时异步预取下一号段
+     * @param executor      预取执行器
+     */
+    public SegmentIdUtils(IdSegmentStore store, String key, int step, double prefetchRatio, Executor executor) {
+        Objects.requireNonNull(store, "store must not be null");
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        if (step <= 0) {
+            throw new IllegalArgumentException("Step must be positive");
+        }
+        if (!(prefetchRatio > 0 && prefetchRatio <= 1)) {
+            throw new IllegalArgumentException("Prefetch ratio must be in (0, 1]");
+        }
+        this.store = store;
+        this.key = key;
+        this.step = step;
+        this.prefetchRatio = prefetchRatio;
+        this.executor = executor;
+    }
+
+    /**
+     * 获取 ID
+     *
+     * @return id
+     */
+    public long nextId() {
+        Segment segment = current;
+        long id = segment.cursor.getAndIncrement();
+        if (id < segment.end) {
+            if (id == segment.prefetchAt) {
+                prefetch();
+            }
+            return id;
+        }
+        return nextIdSlow();
+    }
+
+    /**
+     * 当前号段用尽，切换到下一号段（必要时同步加载）
+     */
+    private synchronized long nextIdSlow() {
+        while (true) {
+            Segment segment = current;
+            long id = segment.cursor.getAndIncrement();
+            if (id < segment.end) {
+                if (id == segment.prefetchAt) {
+                    prefetch();
+                }
+                return id;
+            }
+
+            CompletableFuture<Segment> future = next.get();
+            if (future == null) {
+                future = new CompletableFuture<>();
+                if (next.compareAndSet(null, future)) {
+                    load(future);
+                } else {
+                    future = next.get();
+                }
+            }
+
+            Segment loaded;
+            try {
+                loaded = future.join();
+            } catch (CompletionException e) {
+                next.compareAndSet(future, null);
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+            // 先清空预取位再发布新号段，避免新号段的预取被忽略
+            next.compareAndSet(future, null);
+            current = loaded;
+        }
+    }
+
+    private void prefetch() {
+        if (next.get() != null) {
+            return;
+        }
+        CompletableFuture<Segment> future = new CompletableFuture<>();
+        if (next.compareAndSet(null, future)) {
+            executor.execute(() -> load(future));
+        }
+    }
+
+    private void load(CompletableFuture<Segment> future) {
+        try {
+            long first = store.allocate(key, step);
+            future.complete(new Segment(first, first + step, first + (long) Math.ceil(step * prefetchRatio) - 1));
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+    }
+
+    private static final class Segment {
+
+        private final AtomicLong cursor;
+
+        private final long end;
+
+        private final long prefetchAt;
+
+        private Segment(long first, long end, long prefetchAt) {
+            this.cursor = new AtomicLong(first);
+            this.end = end;
+            this.prefetchAt = prefetchAt;
+        }
+
+    }
+
+}
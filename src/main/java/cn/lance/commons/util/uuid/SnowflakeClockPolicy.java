@@ -0,0 +1,50 @@
+package cn.lance.commons.util.uuid;
+
+import lombok.Getter;
+
+/**
+ * Snowflake 时钟处理策略
+ *
+ * <ul>
+ *     <li>maxBorrowMillis：当前毫秒序列用尽时，允许提前使用后续毫秒序列空间的最大超前量（毫秒）</li>
+ *     <li>maxBackwardMillis：可容忍的时钟回拨量（毫秒），回拨期间沿用上一时间戳继续生成，超过则抛出异常</li>
+ *     <li>parkNanos：需要等待时钟前进时每次 park 的时长（纳秒），为 0 时自旋等待</li>
+ * </ul>
+ */
+@Getter
+public class SnowflakeClockPolicy {
+
+    /**
+     * 严格策略：不借用、不容忍回拨、自旋等待（与默认行为一致）
+     */
+    public static final SnowflakeClockPolicy STRICT = new SnowflakeClockPolicy(0, 0, 0);
+
+    private final long maxBorrowMillis;
+
+    private final long maxBackwardMillis;
+
+    private final long parkNanos;
+
+    /**
+     * 构造时钟处理策略
+     *
+     * @param maxBorrowMillis   最大借用超前量（毫秒）
+     * @param maxBackwardMillis 最大可容忍回拨量（毫秒）
+     * @param parkNanos         每次 park 的时长（纳秒），为 0 时自旋等待
+     */
+    public SnowflakeClockPolicy(long maxBorrowMillis, long maxBackwardMillis, long parkNanos) {
+        if (maxBorrowMillis < 0) {
+            throw new IllegalArgumentException("Max borrow millis must not be negative");
+        }
+        if (maxBackwardMillis < 0) {
+            throw new IllegalArgumentException("Max backward millis must not be negative");
+        }
+        if (parkNanos < 0) {
+            throw new IllegalArgumentException("Park nanos must not be negative");
+        }
+        this.maxBorrowMillis = maxBorrowMillis;
+        this.maxBackwardMillis = maxBackwardMillis;
+        this.parkNanos = parkNanos;
+    }
+
+}
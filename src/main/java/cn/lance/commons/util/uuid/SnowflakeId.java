@@ -0,0 +1,27 @@
+package cn.lance.commons.util.uuid;
+
+import lombok.Data;
+
+/**
+ * 解析后的 Snowflake ID
+ */
+@Data
+public class SnowflakeId {
+
+    /**
+     * 原始 ID
+     */
+    private final long id;
+
+    /**
+     * 生成时间（毫秒，已加上 epoch）
+     */
+    private final long timestamp;
+
+    private final long datacenterId;
+
+    private final long workerId;
+
+    private final long sequence;
+
+}
@@ -1,6 +1,12 @@
 package cn.lance.commons.util.uuid;
 
 
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+
 /**
  * Snowflake ID (64 bits)
  * <p>
@@ -12,37 +18,60 @@ package cn.lance.commons.util.uuid;
  * │                     │                           └───────────────── 5 bits:     datacenter ID
  * │                     └───────────────────────────────────────────── 41 bits:    timestamp offset（相对 epoch 偏移量）
  * └─────────────────────────────────────────────────────────────────── 1 bit:      固定为 0，符号位，始终为正
+ * <p>
+ * 生成状态（上一时间戳偏移量 + 序列）打包在一个 long 中：{@code (timestamp - epoch) << sequenceBits | sequence}。
+ * 默认模式下通过对象锁推进该状态；无锁模式下通过 CAS 推进，两种模式生成的 ID 布局完全一致。
+ * 批量获取时每毫秒只推进一次状态，一次性预留该毫秒内剩余的连续序列。
+ * <p>
+ * 序列用尽与时钟回拨的处理方式由 {@link SnowflakeClockPolicy} 决定，默认为 {@link SnowflakeClockPolicy#STRICT}；
+ * 当前时间由 {@link TimeSource} 提供，默认为 {@link TimeSource#SYSTEM}。
+ * <p>
+ * 上图为默认布局 {@link SnowflakeLayout#DEFAULT}，各段位数与起始时间戳可通过 {@link SnowflakeLayout} 自定义。
  */
-@SuppressWarnings("FieldCanBeLocal")
 public class SnowflakeIdUtils {
-    private final long datacenterIdBits = 5L;
-    private final long workerIdBits = 5L;
-    private final long sequenceBits = 12L;
+
+    private final SnowflakeLayout layout;
+
+    /**
+     * 以下字段从 layout 复制，避免热路径上的间接访问
+     */
+    private final int sequenceBits;
+    private final int timestampShift;
+    private final long sequenceMask;
+    private final long epoch;
+    private final long maxTimestamp;
+
+    /**
+     * datacenter ID 与 worker ID 预先合成的位
+     */
+    private final long nodeBits;
 
     /**
-     * 起始时间戳：2025-01-01T00:00:00+08:00
+     * 是否使用无锁（CAS）模式
      */
-    private final long epoch = 1735660800000L;
+    private final boolean lockFree;
+
+    private final SnowflakeClockPolicy clockPolicy;
+
+    private final TimeSource timeSource;
 
     /**
-     * datacenter ID 位移值
+     * 借用后续毫秒序列的次数
      */
-    private final long datacenterIdShift = sequenceBits + workerIdBits;
+    private final LongAdder borrowCount = new LongAdder();
     /**
-     * worker ID 位移值
+     * 等待时钟前进时 park 的次数
      */
-    private final long workerIdShift = sequenceBits;
+    private final LongAdder parkCount = new LongAdder();
     /**
-     * datacenter ID 位移值
+     * 容忍时钟回拨的次数
      */
-    private final long timestampShift = sequenceBits + workerIdBits + datacenterIdBits;
-    private final long sequenceMask = ~(-1L << sequenceBits);
-
-    private final long datacenterId;
-    private final long workerId;
+    private final LongAdder backwardCount = new LongAdder();
 
-    private long sequence = 0L;
-    private long lastTimestamp = -1L;
+    /**
+     * 打包后的生成状态，-1 表示尚未生成过 ID
+     */
+    private final AtomicLong state = new AtomicLong(-1L);
 
     /**
      * 构造 Snowflake ID 生成器
@@ -51,16 +80,133 @@ public class SnowflakeIdUtils {
      * @param datacenterId 数据中心 ID
      */
     public SnowflakeIdUtils(long workerId, long datacenterId) {
-        long maxDatacenterId = ~(-1L << datacenterIdBits);
-        if (datacenterId > maxDatacenterId || datacenterId < 0) {
-            throw new IllegalArgumentException("Datacenter ID must be between 0 and " + maxDatacenterId);
-        }
-        long maxWorkerId = ~(-1L << workerIdBits);
-        if (workerId > maxWorkerId || workerId < 0) {
-            throw new IllegalArgumentException("Worker ID must be between 0 and " + maxWorkerId);
-        }
-        this.datacenterId = datacenterId;
-        this.workerId = workerId;
+        this(workerId, datacenterId, false);
+    }
+
+    /**
+     * 构造 Snowflake ID 生成器
+     *
+     * @param workerId     工作机器 ID
+     * @param datacenterId 数据中心 ID
+     * @param lockFree     是否使用无锁（CAS）模式，多核高并发场景下吞吐更高
+     */
+    public SnowflakeIdUtils(long workerId, long datacenterId, boolean lockFree) {
+        this(workerId, datacenterId, lockFree, SnowflakeClockPolicy.STRICT);
+    }
+
+    /**
+     * 构造 Snowflake ID 生成器
+     *
+     * @param workerId     工作机器 ID
+     * @param datacenterId 数据中心 ID
+     * @param lockFree     是否使用无锁（CAS）模式，多核高并发场景下吞吐更高
+     * @param clockPolicy  时钟处理策略
+     */
+    public SnowflakeIdUtils(long workerId, long datacenterId, boolean lockFree, SnowflakeClockPolicy clockPolicy) {
+        this(workerId, datacenterId, lockFree, clockPolicy, TimeSource.SYSTEM);
+    }
+
+    /**
+     * 构造 Snowflake ID 生成器
+     *
+     * @param workerId     工作机器 ID
+     * @param datacenterId 数据中心 ID
+     * @param lockFree     是否使用无锁（CAS）模式，多核高并发场景下吞吐更高
+     * @param clockPolicy  时钟处理策略
+     * @param timeSource   时间源
+     */
+    public SnowflakeIdUtils(long workerId, long datacenterId, boolean lockFree, SnowflakeClockPolicy clockPolicy,
+                            TimeSource timeSource) {
+        this(SnowflakeLayout.DEFAULT, workerId, datacenterId, lockFree, clockPolicy, timeSource);
+    }
+
+    /**
+     * 构造 Snowflake ID 生成器
+     *
+     * @param layout       位布局
+     * @param workerId     工作机器 ID
+     * @param datacenterId 数据中心 ID
+     */
+    public SnowflakeIdUtils(SnowflakeLayout layout, long workerId, long datacenterId) {
+        this(layout, workerId, datacenterId, false, SnowflakeClockPolicy.STRICT, TimeSource.SYSTEM);
+    }
+
+    /**
+     * 构造 Snowflake ID 生成器
+     *
+     * @param layout       位布局
+     * @param workerId     工作机器 ID
+     * @param datacenterId 数据中心 ID
+     * @param lockFree     是否使用无锁（CAS）模式，多核高并发场景下吞吐更高
+     * @param clockPolicy  时钟处理策略
+     * @param timeSource   时间源
+     */
+    public SnowflakeIdUtils(SnowflakeLayout layout, long workerId, long datacenterId, boolean lockFree,
+                            SnowflakeClockPolicy clockPolicy, TimeSource timeSource) {
+        Objects.requireNonNull(layout, "layout must not be null");
+        Objects.requireNonNull(clockPolicy, "clockPolicy must not be null");
+        Objects.requireNonNull(timeSource, "timeSource must not be null");
+        this.nodeBits = layout.nodeBits(workerId, datacenterId);
+        this.layout = layout;
+        this.sequenceBits = layout.getSequenceBits();
+        this.timestampShift = layout.getTimestampShift();
+        this.sequenceMask = layout.getSequenceMask();
+        this.epoch = layout.getEpoch();
+        this.maxTimestamp = layout.getMaxTimestamp();
+        this.lockFree = lockFree;
+        this.clockPolicy = clockPolicy;
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * 获取位布局
+     *
+     * @return 位布局
+     */
+    public SnowflakeLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * 是否为无锁模式
+     *
+     * @return 无锁模式返回 true
+     */
+    public boolean isLockFree() {
+        return lockFree;
+    }
+
+    /**
+     * 获取借用后续毫秒序列的次数
+     * <p>
+     * 无锁模式下 CAS 重试可能使该计数略偏高。
+     *
+     * @return 次数
+     */
+    public long getBorrowCount() {
+        return borrowCount.sum();
+    }
+
+    /**
+     * 获取等待时钟前进时 park 的次数
+     * <p>
+     * 无锁模式下 CAS 重试可能使该计数略偏高。
+     *
+     * @return 次数
+     */
+    public long getParkCount() {
+        return parkCount.sum();
+    }
+
+    /**
+     * 获取容忍时钟回拨的次数
+     * <p>
+     * 无锁模式下 CAS 重试可能使该计数略偏高。
+     *
+     * @return 次数
+     */
+    public long getBackwardCount() {
+        return backwardCount.sum();
     }
 
     /**
@@ -68,44 +214,179 @@ public class SnowflakeIdUtils {
      *
      * @return id
      */
-    public synchronized long nextId() {
-        long timestamp = System.currentTimeMillis();
+    public long nextId() {
+        return toId(lockFree ? advanceLockFree() : advanceLocked());
+    }
 
-        if (timestamp < lastTimestamp) {
-            throw new IllegalStateException("Clock moved backwards. Refusing to generate ID.");
+    /**
+     * 批量获取 ID
+     *
+     * @param count 数量
+     * @return 单调递增的 id 数组
+     */
+    public long[] nextIds(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        long[] ids = new long[count];
+        fill(ids, 0, count);
+        return ids;
+    }
+
+    /**
+     * 批量获取 ID
+     *
+     * @param count 数量
+     * @return 单调递增的 id 流
+     */
+    public LongStream nextIdStream(int count) {
+        return LongStream.of(nextIds(count));
+    }
+
+    /**
+     * 批量获取 ID 并写入数组
+     *
+     * @param ids 目标数组
+     */
+    public void fill(long[] ids) {
+        Objects.requireNonNull(ids, "ids must not be null");
+        fill(ids, 0, ids.length);
+    }
+
+    /**
+     * 批量获取 ID 并写入数组指定区间
+     *
+     * @param ids    目标数组
+     * @param offset 起始下标
+     * @param length 数量
+     */
+    public void fill(long[] ids, int offset, int length) {
+        Objects.requireNonNull(ids, "ids must not be null");
+        Objects.checkFromIndexSize(offset, length, ids.length);
+
+        int end = offset + length;
+        while (offset < end) {
+            offset += reserve(ids, offset, end - offset);
         }
-        if (timestamp - epoch > (1L << 41) - 1) {
+    }
+
+    /**
+     * 在当前毫秒内预留至多 count 个连续序列并写入数组
+     *
+     * @return 实际写入的数量
+     */
+    private int reserve(long[] ids, int offset, int count) {
+        long current;
+        long next;
+        if (lockFree) {
+            do {
+                current = state.get();
+                next = advance(current, count);
+            } while (!state.compareAndSet(current, next));
+        } else {
+            synchronized (this) {
+                current = state.get();
+                next = advance(current, count);
+                state.set(next);
+            }
+        }
+
+        long first = current >= 0 && (current >>> sequenceBits) == (next >>> sequenceBits)
+                ? current + 1
+                : next & ~sequenceMask;
+        int granted = (int) (next - first + 1);
+        for (int i = 0; i < granted; i++) {
+            ids[offset + i] = toId(first + i);
+        }
+        return granted;
+    }
+
+    private synchronized long advanceLocked() {
+        long next = advance(state.get(), 1);
+        state.set(next);
+        return next;
+    }
+
+    private long advanceLockFree() {
+        while (true) {
+            long current = state.get();
+            long next = advance(current, 1);
+            if (state.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * 根据当前状态计算下一个状态，预留的序列不跨越毫秒
+     *
+     * @param current 当前打包状态
+     * @param count   期望预留的序列数量（大于 0）
+     * @return 下一个打包状态（即预留区间的最后一个序列）
+     */
+    private long advance(long current, long count) {
+        long timestamp = timeSource.currentTimeMillis();
+        if (timestamp < epoch || timestamp - epoch > maxTimestamp) {
             throw new IllegalStateException("Timestamp out of range.");
         }
+        if (current < 0) {
+            return ((timestamp - epoch) << sequenceBits) + Math.min(count, sequenceMask + 1) - 1;
+        }
+
+        long lastTimestamp = (current >>> sequenceBits) + epoch;
+        if (timestamp < lastTimestamp) {
+            // 借用范围内的超前属于正常情况，超出部分视为时钟回拨
+            long ahead = lastTimestamp - timestamp;
+            if (ahead > clockPolicy.getMaxBorrowMillis()) {
+                if (ahead > clockPolicy.getMaxBorrowMillis() + clockPolicy.getMaxBackwardMillis()) {
+                    throw new IllegalStateException("Clock moved backwards. Refusing to generate ID.");
+                }
+                backwardCount.increment();
+            }
+            timestamp = lastTimestamp;
+        }
 
         if (lastTimestamp == timestamp) {
             // 与上一ID处于同一毫秒
-            sequence = (sequence + 1) & sequenceMask;
+            long sequence = current & sequenceMask;
 
-            // 当前毫秒内4096个ID已用尽
-            if (sequence == 0) {
-                timestamp = tilNextMillis(lastTimestamp);
+            // 当前毫秒内序列已用尽
+            if (sequence == sequenceMask) {
+                timestamp = nextMillis(lastTimestamp);
+                return ((timestamp - epoch) << sequenceBits) + Math.min(count, sequenceMask + 1) - 1;
             }
-        } else {
-            // 新一毫秒
-            sequence = 0L;
+            return current + Math.min(count, sequenceMask - sequence);
         }
 
-        // 保存当前毫秒
-        lastTimestamp = timestamp;
-
-        return ((timestamp - epoch) << timestampShift) |
-                (datacenterId << datacenterIdShift) |
-                (workerId << workerIdShift) |
-                sequence;
+        // 新一毫秒
+        return ((timestamp - epoch) << sequenceBits) + Math.min(count, sequenceMask + 1) - 1;
     }
 
-    private long tilNextMillis(long lastTimestamp) {
-        long timestamp = System.currentTimeMillis();
-        while (timestamp <= lastTimestamp) {
-            timestamp = System.currentTimeMillis();
+    /**
+     * 获取下一毫秒的时间戳，在借用范围内直接使用后续毫秒，否则等待时钟前进
+     */
+    private long nextMillis(long lastTimestamp) {
+        long next = lastTimestamp + 1;
+        long borrowFrom = next - clockPolicy.getMaxBorrowMillis();
+        long timestamp = timeSource.currentTimeMillis();
+        while (timestamp < borrowFrom) {
+            if (clockPolicy.getParkNanos() > 0) {
+                parkCount.increment();
+                LockSupport.parkNanos(clockPolicy.getParkNanos());
+            } else {
+                Thread.onSpinWait();
+            }
+            timestamp = timeSource.currentTimeMillis();
+        }
+        if (timestamp < next) {
+            borrowCount.increment();
+            return next;
         }
         return timestamp;
     }
 
-}
\ No newline at end of file
+    private long toId(long packed) {
+        return ((packed >>> sequenceBits) << timestampShift) | nodeBits | (packed & sequenceMask);
+    }
+
+}
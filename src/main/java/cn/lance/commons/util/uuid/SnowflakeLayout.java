@@ -0,0 +1,196 @@
+package cn.lance.commons.util.uuid;
+
+import lombok.Getter;
+
+/**
+ * Snowflake ID 位布局
+ *
+ * <p>1 位符号位 + timestamp + datacenter ID + worker ID + sequence，四段位数之和必须为 63。
+ * 位移值与掩码在构造时预先计算。</p>
+ *
+ * <p>例如 41/4/4/14 布局：每个节点每毫秒 16384 个 ID，最多 256 个节点。</p>
+ */
+@Getter
+public class SnowflakeLayout {
+
+    /**
+     * 默认布局：41/5/5/12，起始时间戳 2025-01-01T00:00:00+08:00
+     */
+    public static final SnowflakeLayout DEFAULT = new SnowflakeLayout(41, 5, 5, 12, 1735660800000L);
+
+    private final int timestampBits;
+    private final int datacenterIdBits;
+    private final int workerIdBits;
+    private final int sequenceBits;
+
+    /**
+     * 起始时间戳（毫秒）
+     */
+    private final long epoch;
+
+    /**
+     * worker ID 位移值
+     */
+    private final int workerIdShift;
+    /**
+     * datacenter ID 位移值
+     */
+    private final int datacenterIdShift;
+    /**
+     * timestamp 位移值
+     */
+    private final int timestampShift;
+
+    private final long sequenceMask;
+    private final long maxWorkerId;
+    private final long maxDatacenterId;
+    private final long maxTimestamp;
+
+    /**
+     * 构造位布局
+     *
+     * @param timestampBits    时间戳位数
+     * @param datacenterIdBits 数据中心 ID 位数
+     * @param workerIdBits     工作机器 ID 位数
+     * @param sequenceBits     序列位数
+     * @param epoch            起始时间戳（毫秒）
+     */
+    public SnowflakeLayout(int timestampBits, int datacenterIdBits, int workerIdBits, int sequenceBits, long epoch) {
+        if (timestampBits < 32) {
+            throw new IllegalArgumentException("Timestamp bits must be at least 32");
+        }
+        if (datacenterIdBits < 0 || workerIdBits < 0) {
+            throw new IllegalArgumentException("Datacenter ID bits and worker ID bits must not be negative");
+        }
+        if (sequenceBits < 1) {
+            throw new IllegalArgumentException("Sequence bits must be at least 1");
+        }
+        if (timestampBits + datacenterIdBits + workerIdBits + sequenceBits != 63) {
+            throw new IllegalArgumentException("Timestamp, datacenter ID, worker ID and sequence bits must add up to 63");
+        }
+        if (epoch < 0) {
+            throw new IllegalArgumentException("Epoch must not be negative");
+        }
+
+        this.timestampBits = timestampBits;
+        this.datacenterIdBits = datacenterIdBits;
+        this.workerIdBits = workerIdBits;
+        this.sequenceBits = sequenceBits;
+        this.epoch = epoch;
+
+        this.workerIdShift = sequenceBits;
+        this.datacenterIdShift = sequenceBits + workerIdBits;
+        this.timestampShift = sequenceBits + workerIdBits + datacenterIdBits;
+
+        this.sequenceMask = ~(-1L << sequenceBits);
+        this.maxWorkerId = ~(-1L << workerIdBits);
+        this.maxDatacenterId = ~(-1L << datacenterIdBits);
+        this.maxTimestamp = ~(-1L << timestampBits);
+    }
+
+    /**
+     * 解析 ID
+     *
+     * @param id Snowflake ID
+     * @return 解析结果
+     */
+    public SnowflakeId decode(long id) {
+        return new SnowflakeId(id, timestampOf(id), datacenterIdOf(id), workerIdOf(id), sequenceOf(id));
+    }
+
+    /**
+     * 提取生成时间
+     *
+     * @param id Snowflake ID
+     * @return 生成时间（毫秒，已加上 epoch）
+     */
+    public long timestampOf(long id) {
+        return (id >>> timestampShift) + epoch;
+    }
+
+    /**
+     * 提取数据中心 ID
+     *
+     * @param id Snowflake ID
+     * @return 数据中心 ID
+     */
+    public long datacenterIdOf(long id) {
+        return (id >>> datacenterIdShift) & maxDatacenterId;
+    }
+
+    /**
+     * 提取工作机器 ID
+     *
+     * @param id Snowflake ID
+     * @return 工作机器 ID
+     */
+    public long workerIdOf(long id) {
+        return (id >>> workerIdShift) & maxWorkerId;
+    }
+
+    /**
+     * 提取序列
+     *
+     * @param id Snowflake ID
+     * @return 序列
+     */
+    public long sequenceOf(long id) {
+        return id & sequenceMask;
+    }
+
+    /**
+     * 计算指定毫秒内可能生成的最小 ID，可作为主键范围查询的下界（包含）
+     *
+     * <p>早于 epoch 的时间返回 0，超出时间戳范围的时间返回 {@link Long#MAX_VALUE}。</p>
+     *
+     * @param timestampMillis 时间（毫秒）
+     * @return 最小 ID
+     */
+    public long minIdAt(long timestampMillis) {
+        if (timestampMillis <= epoch) {
+            return 0L;
+        }
+        long offset = timestampMillis - epoch;
+        if (offset > maxTimestamp) {
+            return Long.MAX_VALUE;
+        }
+        return offset << timestampShift;
+    }
+
+    /**
+     * 计算指定毫秒内可能生成的最大 ID，可作为主键范围查询的上界（包含）
+     *
+     * <p>早于 epoch 的时间返回 -1（不匹配任何 ID），超出时间戳范围的时间返回 {@link Long#MAX_VALUE}。</p>
+     *
+     * @param timestampMillis 时间（毫秒）
+     * @return 最大 ID
+     */
+    public long maxIdAt(long timestampMillis) {
+        if (timestampMillis < epoch) {
+            return -1L;
+        }
+        long offset = timestampMillis - epoch;
+        if (offset > maxTimestamp) {
+            return Long.MAX_VALUE;
+        }
+        return (offset << timestampShift) | ~(-1L << timestampShift);
+    }
+
+    /**
+     * 校验并合成 datacenter ID 与 worker ID 所在的位
+     *
+     * @param workerId     工作机器 ID
+     * @param datacenterId 数据中心 ID
+     * @return 节点位
+     */
+    long nodeBits(long workerId, long datacenterId) {
+        if (datacenterId > maxDatacenterId || datacenterId < 0) {
+            throw new IllegalArgumentException("Datacenter ID must be between 0 and " + maxDatacenterId);
+        }
+        if (workerId > maxWorkerId || workerId < 0) {
+            throw new IllegalArgumentException("Worker ID must be between 0 and " + maxWorkerId);
+        }
+        return (datacenterId << datacenterIdShift) | (workerId << workerIdShift);
+    }
+
+}
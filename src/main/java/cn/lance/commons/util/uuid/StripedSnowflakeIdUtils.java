@@ -0,0 +1,190 @@
+package cn.lance.commons.util.uuid;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 分段 Snowflake ID 生成器
+ * <p>
+ * 与 {@link SnowflakeIdUtils} 使用相同的 64 位布局（{@link SnowflakeLayout}），但将序列的高位划分为 N 个分段（stripe），
+ * 每个分段独占序列空间的一段，并在各自独立的缓存行上推进自己的（时间戳 + 序列）状态，避免多核争用同一缓存行。
+ * <p>
+ * 默认布局下：0 - 41 bits timestamp - 5 bits datacenter - 5 bits worker - log2(N) bits stripe - (12 - log2(N)) bits sequence
+ * <p>
+ * 不同分段的 ID 在 stripe 位上不同，因此不会重复；时间戳位于高位，ID 整体仍大致按时间有序，
+ * 但同一毫秒内不同分段之间不保证严格递增。
+ */
+public class StripedSnowflakeIdUtils {
+
+    /**
+     * 每个分段占用的 long 槽位数（16 * 8 = 128 字节），保证分段状态互不共享缓存行
+     */
+    private static final int PADDING = 16;
+
+    private final long epoch;
+    private final long maxTimestamp;
+    private final int timestampShift;
+
+    /**
+     * 分段内序列位数
+     */
+    private final int stripeSequenceBits;
+    private final long stripeSequenceMask;
+
+    private final int stripes;
+    private final int stripeMask;
+
+    /**
+     * datacenter ID 与 worker ID 预先合成的位
+     */
+    private final long nodeBits;
+
+    /**
+     * 各分段打包后的生成状态：{@code (timestamp - epoch) << stripeSequenceBits | sequence}，-1 表示尚未生成过 ID
+     */
+    private final AtomicLongArray states;
+
+    private final TimeSource timeSource;
+
+    /**
+     * 构造分段 Snowflake ID 生成器
+     *
+     * @param workerId     工作机器 ID
+     * @param datacenterId 数据中心 ID
+     * @param stripes      分段数量，必须为 2 的幂，且不超过 4096
+     */
+    public StripedSnowflakeIdUtils(long workerId, long datacenterId, int stripes) {
+        this(workerId, datacenterId, stripes, TimeSource.SYSTEM);
+    }
+
+    /**
+     * 构造分段 Snowflake ID 生成器
+     *
+     * @param workerId     工作机器 ID
+     * @param datacenterId 数据中心 ID
+     * @param stripes      分段数量，必须为 2 的幂，且不超过 4096
+     * @param timeSource   时间源
+     */
+    public StripedSnowflakeIdUtils(long workerId, long datacenterId, int stripes, TimeSource timeSource) {
+        this(SnowflakeLayout.DEFAULT, workerId, datacenterId, stripes, timeSource);
+    }
+
+    /**
+     * 构造分段 Snowflake ID 生成器
+     *
+     * @param layout       位布局
+     * @param workerId     工作机器 ID
+     * @param datacenterId 数据中心 ID
+     * @param stripes      分段数量，必须为 2 的幂，且不超过序列空间大小
+     * @param timeSource   时间源
+     */
+    public StripedSnowflakeIdUtils(SnowflakeLayout layout, long workerId, long datacenterId, int stripes,
+                                   TimeSource timeSource) {
+        Objects.requireNonNull(layout, "layout must not be null");
+        Objects.requireNonNull(timeSource, "timeSource must not be null");
+        this.nodeBits = layout.nodeBits(workerId, datacenterId);
+
+        int sequenceBits = layout.getSequenceBits();
+        if (stripes <= 0 || stripes > (1L << sequenceBits) || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Stripes must be a power of two between 1 and " + (1L << sequenceBits));
+        }
+
+        this.epoch = layout.getEpoch();
+        this.maxTimestamp = layout.getMaxTimestamp();
+        this.timestampShift = layout.getTimestampShift();
+
+        this.stripes = stripes;
+        this.stripeMask = stripes - 1;
+        this.stripeSequenceBits = sequenceBits - Integer.numberOfTrailingZeros(stripes);
+        this.stripeSequenceMask = ~(-1L << stripeSequenceBits);
+        this.timeSource = timeSource;
+
+        this.states = new AtomicLongArray(stripes * PADDING);
+        for (int i = 0; i < stripes; i++) {
+            states.set(i * PADDING, -1L);
+        }
+    }
+
+    /**
+     * 获取分段数量
+     *
+     * @return 分段数量
+     */
+    public int getStripes() {
+        return stripes;
+    }
+
+    /**
+     * 获取单个分段每毫秒可生成的 ID 数量
+     *
+     * @return 每分段每毫秒容量
+     */
+    public long getStripeCapacity() {
+        return stripeSequenceMask + 1;
+    }
+
+    /**
+     * 获取 ID，按当前线程选择分段
+     *
+     * @return id
+     */
+    public long nextId() {
+        return nextId((int) (Thread.currentThread().threadId() & stripeMask));
+    }
+
+    /**
+     * 从指定分段获取 ID
+     *
+     * @param stripe 分段下标
+     * @return id
+     */
+    public long nextId(int stripe) {
+        if (stripe < 0 || stripe >= stripes) {
+            throw new IllegalArgumentException("Stripe must be between 0 and " + stripeMask);
+        }
+
+        int index = stripe * PADDING;
+        while (true) {
+            long current = states.get(index);
+            long next = advance(current);
+            if (states.compareAndSet(index, current, next)) {
+                return ((next >>> stripeSequenceBits) << timestampShift) |
+                        nodeBits |
+                        ((long) stripe << stripeSequenceBits) |
+                        (next & stripeSequenceMask);
+            }
+        }
+    }
+
+    private long advance(long current) {
+        long timestamp = timeSource.currentTimeMillis();
+        long lastTimestamp = current < 0 ? -1L : (current >>> stripeSequenceBits) + epoch;
+
+        if (timestamp < lastTimestamp) {
+            throw new IllegalStateException("Clock moved backwards. Refusing to generate ID.");
+        }
+        if (timestamp < epoch || timestamp - epoch > maxTimestamp) {
+            throw new IllegalStateException("Timestamp out of range.");
+        }
+
+        if (lastTimestamp == timestamp) {
+            // 当前毫秒内该分段的序列已用尽
+            if ((current & stripeSequenceMask) == stripeSequenceMask) {
+                timestamp = tilNextMillis(lastTimestamp);
+                return (timestamp - epoch) << stripeSequenceBits;
+            }
+            return current + 1;
+        }
+
+        return (timestamp - epoch) << stripeSequenceBits;
+    }
+
+    private long tilNextMillis(long lastTimestamp) {
+        long timestamp = timeSource.currentTimeMillis();
+        while (timestamp <= lastTimestamp) {
+            timestamp = timeSource.currentTimeMillis();
+        }
+        return timestamp;
+    }
+
+}
@@ -0,0 +1,24 @@
+package cn.lance.commons.util.uuid;
+
+/**
+ * 毫秒时间源
+ *
+ * <p>Snowflake 生成器通过时间源获取当前时间，可替换为缓存时钟（{@link CachedTimeSource}）
+ * 或测试用的手动时钟（{@link ManualTimeSource}）。</p>
+ */
+@FunctionalInterface
+public interface TimeSource {
+
+    /**
+     * 系统时钟
+     */
+    TimeSource SYSTEM = System::currentTimeMillis;
+
+    /**
+     * 获取当前时间
+     *
+     * @return 当前时间（毫秒）
+     */
+    long currentTimeMillis();
+
+}
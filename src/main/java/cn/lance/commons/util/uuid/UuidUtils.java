@@ -1,7 +1,15 @@
 package cn.lance.commons.util.uuid;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Universally unique identifier
@@ -10,7 +18,44 @@ public class UuidUtils {
 
     private static final String CHARACTERS = "0123456789abcdefghijklmnopqrstuvwxyz";
 
-    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final char[] CHARACTER_TABLE = CHARACTERS.toCharArray();
+
+    /**
+     * 拒绝采样上界：小于该值的随机字节对 36 取模是均匀分布的（252 = 36 * 7）
+     */
+    private static final int CHARACTER_BOUND = 256 - 256 % CHARACTERS.length();
+
+    private static final ThreadLocal<Entropy> THREAD_ENTROPY = ThreadLocal.withInitial(Entropy::new);
+
+    /**
+     * UUIDv7 计数器位数（rand_a 字段）
+     */
+    private static final int V7_COUNTER_BITS = 12;
+
+    /**
+     * UUIDv7 生成状态：{@code unixMillis << 12 | counter}
+     */
+    private static final AtomicLong V7_STATE = new AtomicLong();
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * 十六进制字符反查表，非法字符为 -1
+     */
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    /**
+     * 带连字符格式中，在第 8、12、16、20 个十六进制位之前插入连字符
+     */
+    private static final int HYPHEN_MASK = (1 << 8) | (1 << 12) | (1 << 16) | (1 << 20);
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            HEX_VALUES[HEX_DIGITS[i]] = (byte) i;
+            HEX_VALUES[Character.toUpperCase(HEX_DIGITS[i])] = (byte) i;
+        }
+    }
 
     private UuidUtils() {
     }
@@ -21,7 +66,10 @@ public class UuidUtils {
      * @return UUID（不带连字符）
      */
     public static String randomUuid() {
-        return UUID.randomUUID().toString().replace("-", "");
+        UUID uuid = UUID.randomUUID();
+        char[] chars = new char[32];
+        formatUuid(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), false, chars, 0);
+        return new String(chars);
     }
 
     /**
@@ -44,11 +92,339 @@ public class UuidUtils {
             length = 16;
         }
 
-        StringBuilder builder = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            builder.append(CHARACTERS.charAt(RANDOM.nextInt(CHARACTERS.length())));
+        char[] chars = new char[length];
+        randomUuid(chars, 0, length);
+        return new String(chars);
+    }
+
+    /**
+     * 生成随机字符（0-9a-z）并写入字符数组
+     *
+     * @param dest   目标数组
+     * @param offset 起始下标
+     * @param length 字符数量
+     */
+    public static void randomUuid(char[] dest, int offset, int length) {
+        Objects.requireNonNull(dest, "dest must not be null");
+        Objects.checkFromIndexSize(offset, length, dest.length);
+
+        Entropy entropy = THREAD_ENTROPY.get();
+        int end = offset + length;
+        while (offset < end) {
+            int b = entropy.nextByte();
+            if (b < CHARACTER_BOUND) {
+                dest[offset++] = CHARACTER_TABLE[b % CHARACTER_TABLE.length];
+            }
+        }
+    }
+
+    /**
+     * 生成随机字符（0-9a-z）并以 ASCII 写入字节数组
+     *
+     * @param dest   目标数组
+     * @param offset 起始下标
+     * @param length 字符数量
+     */
+    public static void randomUuid(byte[] dest, int offset, int length) {
+        Objects.requireNonNull(dest, "dest must not be null");
+        Objects.checkFromIndexSize(offset, length, dest.length);
+
+        Entropy entropy = THREAD_ENTROPY.get();
+        int end = offset + length;
+        while (offset < end) {
+            int b = entropy.nextByte();
+            if (b < CHARACTER_BOUND) {
+                dest[offset++] = (byte) CHARACTER_TABLE[b % CHARACTER_TABLE.length];
+            }
+        }
+    }
+
+    /**
+     * 生成时间有序的 UUIDv7（RFC 9562）
+     *
+     * <p>48 位 Unix 毫秒时间戳 + 12 位毫秒内单调计数器（rand_a）+ 62 位随机数（rand_b）。
+     * 计数器用尽或时钟回拨时沿用并递增上一时间戳，保证进程内严格单调递增；生成过程无锁。</p>
+     *
+     * @return UUIDv7，{@link UUID#getMostSignificantBits()} / {@link UUID#getLeastSignificantBits()} 即二进制形式
+     */
+    public static UUID uuidV7() {
+        long now = System.currentTimeMillis() << V7_COUNTER_BITS;
+        long state;
+        long current;
+        do {
+            current = V7_STATE.get();
+            state = Math.max(now, current + 1);
+        } while (!V7_STATE.compareAndSet(current, state));
+
+        long msb = ((state >>> V7_COUNTER_BITS) << 16)
+                | (0x7L << 12)
+                | (state & ~(-1L << V7_COUNTER_BITS));
+        long lsb = (THREAD_ENTROPY.get().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * 生成时间有序的 UUIDv7（RFC 9562）
+     *
+     * @return UUIDv7（16 字节，大端序）
+     */
+    public static byte[] uuidV7Bytes() {
+        return toBytes(uuidV7());
+    }
+
+    /**
+     * 生成时间有序的 UUIDv7（RFC 9562）
+     *
+     * @return UUIDv7（不带连字符）
+     */
+    public static String timeOrderedUuid() {
+        UUID uuid = uuidV7();
+        char[] chars = new char[32];
+        formatUuid(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), false, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * 生成时间有序的 UUIDv7（RFC 9562）
+     *
+     * @return UUIDv7（带连字符）
+     */
+    public static String timeOrderedUuidWithHyphen() {
+        return uuidV7().toString();
+    }
+
+    /**
+     * UUID 转为 16 字节（大端序），字节序比较与时间顺序一致
+     *
+     * @param uuid UUID
+     * @return 16 字节
+     */
+    public static byte[] toBytes(UUID uuid) {
+        Objects.requireNonNull(uuid, "uuid must not be null");
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * 16 字节（大端序）转为 UUID
+     *
+     * @param bytes 16 字节
+     * @return UUID
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes must not be null");
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("UUID bytes must be 16 bytes long");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * 将 UUID 以十六进制写入字符数组
+     *
+     * @param msb    高 64 位
+     * @param lsb    低 64 位
+     * @param hyphen 是否带连字符（36 位），否则为 32 位
+     * @param dest   目标数组
+     * @param offset 起始下标
+     * @return 写入的字符数
+     */
+    public static int formatUuid(long msb, long lsb, boolean hyphen, char[] dest, int offset) {
+        Objects.requireNonNull(dest, "dest must not be null");
+        int length = hyphen ? 36 : 32;
+        Objects.checkFromIndexSize(offset, length, dest.length);
+
+        for (int i = 0; i < 32; i++) {
+            if (hyphen && isHyphenBefore(i)) {
+                dest[offset++] = '-';
+            }
+            dest[offset++] = HEX_DIGITS[nibble(msb, lsb, i)];
+        }
+        return length;
+    }
+
+    /**
+     * 将 UUID 以十六进制 ASCII 写入字节数组
+     *
+     * @param msb    高 64 位
+     * @param lsb    低 64 位
+     * @param hyphen 是否带连字符（36 位），否则为 32 位
+     * @param dest   目标数组
+     * @param offset 起始下标
+     * @return 写入的字节数
+     */
+    public static int formatUuid(long msb, long lsb, boolean hyphen, byte[] dest, int offset) {
+        Objects.requireNonNull(dest, "dest must not be null");
+        int length = hyphen ? 36 : 32;
+        Objects.checkFromIndexSize(offset, length, dest.length);
+
+        for (int i = 0; i < 32; i++) {
+            if (hyphen && isHyphenBefore(i)) {
+                dest[offset++] = '-';
+            }
+            dest[offset++] = (byte) HEX_DIGITS[nibble(msb, lsb, i)];
+        }
+        return length;
+    }
+
+    /**
+     * 将 UUID 以十六进制追加到 StringBuilder
+     *
+     * @param msb     高 64 位
+     * @param lsb     低 64 位
+     * @param hyphen  是否带连字符（36 位），否则为 32 位
+     * @param builder 目标 StringBuilder
+     * @return 目标 StringBuilder
+     */
+    public static StringBuilder formatUuid(long msb, long lsb, boolean hyphen, StringBuilder builder) {
+        Objects.requireNonNull(builder, "builder must not be null");
+        builder.ensureCapacity(builder.length() + (hyphen ? 36 : 32));
+
+        for (int i = 0; i < 32; i++) {
+            if (hyphen && isHyphenBefore(i)) {
+                builder.append('-');
+            }
+            builder.append(HEX_DIGITS[nibble(msb, lsb, i)]);
         }
-        return builder.toString();
+        return builder;
+    }
+
+    /**
+     * 将 UUID 以十六进制 ASCII 写入 ByteBuffer（从当前 position 开始）
+     *
+     * @param msb    高 64 位
+     * @param lsb    低 64 位
+     * @param hyphen 是否带连字符（36 位），否则为 32 位
+     * @param buffer 目标 ByteBuffer
+     * @return 目标 ByteBuffer
+     */
+    public static ByteBuffer formatUuid(long msb, long lsb, boolean hyphen, ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer must not be null");
+        int length = hyphen ? 36 : 32;
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+
+        for (int i = 0; i < 32; i++) {
+            if (hyphen && isHyphenBefore(i)) {
+                buffer.put((byte) '-');
+            }
+            buffer.put((byte) HEX_DIGITS[nibble(msb, lsb, i)]);
+        }
+        return buffer;
+    }
+
+    /**
+     * 解析 UUID 字符串（32 位或 36 位带连字符，不区分大小写）的高 64 位
+     *
+     * @param text UUID 字符串
+     * @return 高 64 位
+     * @throws IllegalArgumentException 格式错误
+     */
+    public static long parseUuidMostSignificantBits(CharSequence text) {
+        return parseUuidBits(text, 0);
+    }
+
+    /**
+     * 解析 UUID 字符串（32 位或 36 位带连字符，不区分大小写）的低 64 位
+     *
+     * @param text UUID 字符串
+     * @return 低 64 位
+     * @throws IllegalArgumentException 格式错误
+     */
+    public static long parseUuidLeastSignificantBits(CharSequence text) {
+        return parseUuidBits(text, 16);
+    }
+
+    /**
+     * 解析 UUID 字符串（32 位或 36 位带连字符，不区分大小写）
+     *
+     * @param text UUID 字符串
+     * @return UUID
+     * @throws IllegalArgumentException 格式错误
+     */
+    public static UUID parseUuid(CharSequence text) {
+        return new UUID(parseUuidBits(text, 0), parseUuidBits(text, 16));
+    }
+
+    private static long parseUuidBits(CharSequence text, int firstNibble) {
+        Objects.requireNonNull(text, "text must not be null");
+
+        boolean hyphen;
+        if (text.length() == 36) {
+            if (text.charAt(8) != '-' || text.charAt(13) != '-' || text.charAt(18) != '-' || text.charAt(23) != '-') {
+                throw new IllegalArgumentException("Invalid UUID string: " + text);
+            }
+            hyphen = true;
+        } else if (text.length() == 32) {
+            hyphen = false;
+        } else {
+            throw new IllegalArgumentException("Invalid UUID string: " + text);
+        }
+
+        long value = 0;
+        for (int i = firstNibble; i < firstNibble + 16; i++) {
+            int position = hyphen ? i + Integer.bitCount(HYPHEN_MASK & ((2 << i) - 1)) : i;
+            char c = text.charAt(position);
+            int digit = c < 128 ? HEX_VALUES[c] : -1;
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid UUID string: " + text);
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    /**
+     * 第 i 个十六进制位（0-31）的值
+     */
+    private static int nibble(long msb, long lsb, int i) {
+        return (int) ((i < 16 ? msb : lsb) >>> (60 - ((i & 15) << 2))) & 0xF;
+    }
+
+    private static boolean isHyphenBefore(int i) {
+        return ((HYPHEN_MASK >>> i) & 1) != 0;
+    }
+
+    /**
+     * 线程私有的熵缓冲区，批量从 {@link SecureRandom} 取随机字节，避免逐字符调用和线程间争用
+     */
+    private static final class Entropy {
+
+        private static final int BUFFER_SIZE = 256;
+
+        private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+        private final SecureRandom random = new SecureRandom();
+
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        private int position = BUFFER_SIZE;
+
+        int nextByte() {
+            if (position == BUFFER_SIZE) {
+                refill();
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        long nextLong() {
+            if (position > BUFFER_SIZE - Long.BYTES) {
+                refill();
+            }
+            long value = (long) LONG_VIEW.get(buffer, position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        private void refill() {
+            random.nextBytes(buffer);
+            position = 0;
+        }
+
     }
 
 }
@@ -0,0 +1,261 @@
+package cn.lance.commons.util.uuid;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 同一主机多进程间的 Snowflake 节点 ID 分配器
+ *
+ * <p>多个进程共享一个内存映射的租约表文件，每个槽位对应一个（datacenter ID, worker ID）组合，
+ * 记录持有者令牌与过期时间（各 8 字节）。分配、续约与释放都在文件锁保护下进行，
+ * 无需外部协调服务。持有者需通过心跳续约，进程崩溃后租约过期，槽位即可被其他进程重新占用。</p>
+ *
+ * <p>新持有者只会在旧租约过期或释放后、再经过隔离期才接手槽位，此时时间已晚于旧持有者可能生成的所有 ID
+ * （含按时钟策略借用的超前时间戳与回拨期间沿用的时间戳），因此不会产生重复 ID。
+ * 持有者在续约失败（例如长时间停顿）后应通过 {@link WorkerIdLease#isValid()} 感知并停止生成 ID。</p>
+ *
+ * <p>租约表文件在首次操作时打开并映射，之后每次操作只获取文件锁，直到 {@link #close()}。</p>
+ */
+public class WorkerIdAllocator implements AutoCloseable {
+
+    /**
+     * 每个槽位的字节数：持有者令牌（8 字节）+ 过期时间（8 字节）
+     */
+    private static final int SLOT_SIZE = 16;
+
+    private static final int MAX_SLOTS = 1 << 16;
+
+    /**
+     * 同一 JVM 内 FileLock 不可重叠获取，进程内的表操作需额外串行化
+     */
+    private static final Object LOCK = new Object();
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Path leaseFile;
+
+    private final SnowflakeLayout layout;
+
+    private final long leaseMillis;
+
+    private final TimeSource timeSource;
+
+    /**
+     * 隔离期（毫秒）：旧持有者最后时间戳可能超出当前时间的量（借用超前量 + 回拨容忍量）
+     */
+    private final long quarantineMillis;
+
+    private final int slots;
+
+    /**
+     * 租约表文件通道与映射，首次操作时创建，受 {@link #LOCK} 保护
+     */
+    private FileChannel channel;
+
+    private MappedByteBuffer table;
+
+    private boolean closed;
+
+    /**
+     * 构造分配器，使用默认布局与 10 秒租期
+     *
+     * @param leaseFile 租约表文件
+     */
+    public WorkerIdAllocator(Path leaseFile) {
+        this(leaseFile, SnowflakeLayout.DEFAULT, 10_000);
+    }
+
+    /**
+     * 构造分配器
+     *
+     * @param leaseFile   租约表文件
+     * @param layout      位布局，决定可分配的槽位数量
+     * @param leaseMillis 租期（毫秒），心跳间隔为租期的 1/3
+     */
+    public WorkerIdAllocator(Path leaseFile, SnowflakeLayout layout, long leaseMillis) {
+        this(leaseFile, layout, leaseMillis, TimeSource.SYSTEM);
+    }
+
+    /**
+     * 构造分配器
+     *
+     * @param leaseFile   租约表文件
+     * @param layout      位布局，决定可分配的槽位数量
+     * @param leaseMillis 租期（毫秒），心跳间隔为租期的 1/3
+     * @param timeSource  时间源
+     */
+    public WorkerIdAllocator(Path leaseFile, SnowflakeLayout layout, long leaseMillis, TimeSource timeSource) {
+        this(leaseFile, layout, leaseMillis, SnowflakeClockPolicy.STRICT, timeSource);
+    }
+
+    /**
+     * 构造分配器
+     *
+     * @param leaseFile   租约表文件
+     * @param layout      位布局，决定可分配的槽位数量
+     * @param leaseMillis 租期（毫秒），心跳间隔为租期的 1/3
+     * @param clockPolicy 持有者生成 ID 时使用的时钟策略，决定槽位释放后的隔离期
+     * @param timeSource  时间源
+     */
+    public WorkerIdAllocator(Path leaseFile, SnowflakeLayout layout, long leaseMillis, SnowflakeClockPolicy clockPolicy,
+                             TimeSource timeSource) {
+        Objects.requireNonNull(leaseFile, "leaseFile must not be null");
+        Objects.requireNonNull(layout, "layout must not be null");
+        Objects.requireNonNull(clockPolicy, "clockPolicy must not be null");
+        Objects.requireNonNull(timeSource, "timeSource must not be null");
+        if (leaseMillis < 3) {
+            throw new IllegalArgumentException("Lease millis must be at least 3");
+        }
+        this.leaseFile = leaseFile;
+        this.layout = layout;
+        this.leaseMillis = leaseMillis;
+        this.timeSource = timeSource;
+        this.quarantineMillis = clockPolicy.getMaxBorrowMillis() + clockPolicy.getMaxBackwardMillis();
+        this.slots = (int) Math.min((layout.getMaxDatacenterId() + 1) * (layout.getMaxWorkerId() + 1), MAX_SLOTS);
+    }
+
+    /**
+     * 获取槽位数量
+     *
+     * @return 槽位数量
+     */
+    public int getSlots() {
+        return slots;
+    }
+
+    /**
+     * 租用一个空闲（从未使用，或已释放、已过期且度过隔离期）的节点 ID
+     *
+     * @return 租约，使用完毕后应关闭以释放槽位
+     * @throws IllegalStateException 没有空闲槽位
+     */
+    public WorkerIdLease acquire() {
+        long owner;
+        do {
+            owner = RANDOM.nextLong();
+        } while (owner == 0);
+
+        long token = owner;
+        long[] acquired = withTable(table -> {
+            long now = timeSource.currentTimeMillis();
+            for (int slot = 0; slot < slots; slot++) {
+                int position = slot * SLOT_SIZE;
+                // 已释放的槽位在释放时已计入隔离期；过期（持有者崩溃）的槽位需额外等待隔离期
+                long expiresAt = table.getLong(position + 8);
+                long freeAt = table.getLong(position) == 0 ? expiresAt : expiresAt + quarantineMillis;
+                if (freeAt <= now) {
+                    table.putLong(position, token);
+                    table.putLong(position + 8, now + leaseMillis);
+                    return new long[]{slot, now + leaseMillis};
+                }
+            }
+            return null;
+        });
+        if (acquired == null) {
+            throw new IllegalStateException("No free worker ID slot in " + leaseFile);
+        }
+
+        int slot = (int) acquired[0];
+        long workerSlots = layout.getMaxWorkerId() + 1;
+        return new WorkerIdLease(this, slot, owner, slot % workerSlots, slot / workerSlots, acquired[1], leaseMillis / 3);
+    }
+
+    /**
+     * 续约
+     *
+     * @return 新的过期时间，槽位已被他人占用时返回 -1
+     */
+    long renew(int slot, long owner) {
+        return withTable(table -> {
+            int position = slot * SLOT_SIZE;
+            long now = timeSource.currentTimeMillis();
+            if (table.getLong(position) != owner || table.getLong(position + 8) <= now) {
+                return -1L;
+            }
+            table.putLong(position + 8, now + leaseMillis);
+            return now + leaseMillis;
+        });
+    }
+
+    /**
+     * 释放槽位：清除持有者，槽位在隔离期结束（最后时间戳 + 1 毫秒之后）前不可再分配
+     */
+    void release(int slot, long owner) {
+        withTable(table -> {
+            int position = slot * SLOT_SIZE;
+            if (table.getLong(position) == owner) {
+                table.putLong(position, 0L);
+                table.putLong(position + 8, timeSource.currentTimeMillis() + 1 + quarantineMillis);
+            }
+            return null;
+        });
+    }
+
+    long currentTimeMillis() {
+        return timeSource.currentTimeMillis();
+    }
+
+    /**
+     * 关闭租约表文件通道，之后不能再分配、续约或释放槽位，应先关闭由本分配器创建的租约
+     * <p>
+     * 映射内存随缓冲区被回收而释放。
+     */
+    @Override
+    public void close() {
+        synchronized (LOCK) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            table = null;
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    channel = null;
+                }
+            }
+        }
+    }
+
+    private <T> T withTable(Function<MappedByteBuffer, T> action) {
+        synchronized (LOCK) {
+            if (closed) {
+                throw new IllegalStateException("Worker ID allocator already closed");
+            }
+            try {
+                if (table == null) {
+                    FileChannel opened = FileChannel.open(leaseFile,
+                            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                    try {
+                        table = opened.map(FileChannel.MapMode.READ_WRITE, 0, (long) slots * SLOT_SIZE);
+                    } catch (IOException e) {
+                        opened.close();
+                        throw e;
+                    }
+                    channel = opened;
+                }
+                FileLock lock = channel.lock();
+                try {
+                    T result = action.apply(table);
+                    table.force();
+                    return result;
+                } finally {
+                    lock.release();
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+}
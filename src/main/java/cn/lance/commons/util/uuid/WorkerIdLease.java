@@ -0,0 +1,114 @@
+package cn.lance.commons.util.uuid;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 节点 ID 租约
+ *
+ * <p>由 {@link WorkerIdAllocator#acquire()} 创建，后台守护线程定期续约。
+ * 关闭租约会停止心跳并释放槽位。</p>
+ */
+@Slf4j
+public class WorkerIdLease implements AutoCloseable {
+
+    private final WorkerIdAllocator allocator;
+
+    private final int slot;
+
+    private final long owner;
+
+    private final long workerId;
+
+    private final long datacenterId;
+
+    private final ScheduledExecutorService heartbeat;
+
+    private volatile long expiresAt;
+
+    private volatile boolean closed;
+
+    WorkerIdLease(WorkerIdAllocator allocator, int slot, long owner, long workerId, long datacenterId,
+                  long expiresAt, long heartbeatMillis) {
+        this.allocator = allocator;
+        this.slot = slot;
+        this.owner = owner;
+        this.workerId = workerId;
+        this.datacenterId = datacenterId;
+        this.expiresAt = expiresAt;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "worker-id-lease-" + slot);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat.scheduleWithFixedDelay(this::renew, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 获取槽位下标
+     *
+     * @return 槽位下标
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * 获取工作机器 ID
+     *
+     * @return 工作机器 ID
+     */
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * 获取数据中心 ID
+     *
+     * @return 数据中心 ID
+     */
+    public long getDatacenterId() {
+        return datacenterId;
+    }
+
+    /**
+     * 租约是否仍然有效（未关闭、未过期且未被他人占用）
+     *
+     * @return 有效返回 true
+     */
+    public boolean isValid() {
+        return !closed && expiresAt > allocator.currentTimeMillis();
+    }
+
+    private void renew() {
+        try {
+            long renewed = allocator.renew(slot, owner);
+            expiresAt = renewed;
+            if (renewed < 0) {
+                // 租约已丢失，停止心跳
+                log.warn("Worker ID lease lost: slot={}, datacenterId={}, workerId={}", slot, datacenterId, workerId);
+                heartbeat.shutdown();
+            }
+        } catch (RuntimeException e) {
+            // 续约失败时保留原过期时间，下次心跳重试
+            log.warn("Failed to renew worker ID lease: slot={}, expiresAt={}", slot, expiresAt, e);
+        }
+    }
+
+    /**
+     * 停止心跳并释放槽位
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        heartbeat.shutdownNow();
+        allocator.release(slot, owner);
+    }
+
+}
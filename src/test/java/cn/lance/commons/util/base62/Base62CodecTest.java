@@ -0,0 +1,125 @@
+package cn.lance.commons.util.base62;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+@Slf4j
+public class Base62CodecTest {
+
+    private static final String UNAMBIGUOUS = "23456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+
+    @Test
+    public void testStandardMatchesStaticMethods() {
+        Random random = new Random(62);
+        for (int i = 0; i < 1000; i++) {
+            byte[] data = new byte[random.nextInt(64)];
+            random.nextBytes(data);
+            if (data.length > 2 && i % 3 == 0) {
+                data[0] = 0;
+                data[1] = 0;
+            }
+            String encoded = Base62Codec.STANDARD.encode(data);
+            Assertions.assertEquals(Base62Utils.encode(data), encoded);
+            Assertions.assertArrayEquals(Base62Utils.decode(encoded), Base62Codec.STANDARD.decode(encoded));
+            Assertions.assertArrayEquals(data, Base62Codec.STANDARD.decode(encoded));
+
+            long value = random.nextLong();
+            Assertions.assertEquals(Base62Utils.encode(value), Base62Codec.STANDARD.encode(value));
+            Assertions.assertEquals(value, Base62Codec.STANDARD.decodeToLong(Base62Codec.STANDARD.encode(value)));
+        }
+        Assertions.assertArrayEquals(new byte[3], Base62Codec.STANDARD.decode("000"));
+    }
+
+    @Test
+    public void testCustomAlphabet() {
+        Base62Codec codec = new Base62Codec(UNAMBIGUOUS);
+        Assertions.assertEquals(UNAMBIGUOUS.length(), codec.getRadix());
+
+        byte[] original = "Hello, Base62!".getBytes(StandardCharsets.UTF_8);
+        String encoded = codec.encode(original);
+        log.info("Encoded: {}", encoded);
+        Assertions.assertTrue(encoded.chars().allMatch(c -> UNAMBIGUOUS.indexOf(c) >= 0));
+        Assertions.assertArrayEquals(original, codec.decode(encoded));
+
+        for (long value : new long[]{0, 1, 56, 57, Long.MAX_VALUE, Long.MIN_VALUE, -1L}) {
+            Assertions.assertEquals(value, codec.decodeToLong(codec.encode(value)));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode("0O"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decodeToLong(codec.encode(-1L) + "2"));
+
+        Base62Codec binary = new Base62Codec("01");
+        Assertions.assertEquals(Long.toBinaryString(-1L), binary.encode(-1L));
+        Assertions.assertEquals(-1L, binary.decodeToLong(Long.toBinaryString(-1L)));
+    }
+
+    @Test
+    public void testInvalidAlphabet() {
+        Assertions.assertThrows(NullPointerException.class, () -> new Base62Codec(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Base62Codec("0"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Base62Codec("0123456789"
+                + "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz!"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Base62Codec("0120"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Base62Codec("01é"));
+    }
+
+    @Test
+    public void testEncodeTo() throws IOException {
+        Base62Codec codec = Base62Codec.STANDARD;
+        StringBuilder builder = codec.encodeTo(123456789L, new StringBuilder("id:"));
+        Assertions.assertEquals("id:" + Base62Utils.encode(123456789L), builder.toString());
+
+        StringWriter writer = new StringWriter();
+        codec.encodeTo(-1L, writer);
+        Assertions.assertEquals(Base62Utils.encode(-1L), writer.toString());
+
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        codec.encodeTo(0L, buffer);
+        codec.encodeTo(Long.MAX_VALUE, buffer);
+        buffer.flip();
+        Assertions.assertEquals("0" + Base62Utils.encode(Long.MAX_VALUE), StandardCharsets.US_ASCII.decode(buffer).toString());
+
+        Assertions.assertThrows(java.nio.BufferOverflowException.class, () -> codec.encodeTo(-1L, ByteBuffer.allocate(4)));
+    }
+
+    @Test
+    public void testThroughput() {
+        Random random = new Random(62);
+        byte[][] data = new byte[20_000][];
+        String[] encoded = new String[data.length];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = new byte[32];
+            random.nextBytes(data[i]);
+            encoded[i] = Base62Utils.encode(data[i]);
+        }
+
+        // 预热
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < data.length; i++) {
+                Base62Utils.decode(encoded[i]);
+                Base62Codec.STANDARD.decode(encoded[i]);
+            }
+        }
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < data.length; i++) {
+            Base62Utils.decode(Base62Utils.encode(data[i]));
+        }
+        long staticElapsed = System.nanoTime() - begin;
+
+        begin = System.nanoTime();
+        for (int i = 0; i < data.length; i++) {
+            Base62Codec.STANDARD.decode(Base62Codec.STANDARD.encode(data[i]));
+        }
+        long codecElapsed = System.nanoTime() - begin;
+
+        log.info("32B x {}: static {}ms, codec {}ms", data.length, staticElapsed / 1_000_000, codecElapsed / 1_000_000);
+    }
+
+}
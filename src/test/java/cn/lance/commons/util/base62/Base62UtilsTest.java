@@ -1,10 +1,21 @@
 package cn.lance.commons.util.base62;
 
+import cn.lance.commons.util.uuid.UuidUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
 
 @Slf4j
 public class Base62UtilsTest {
@@ -111,4 +122,270 @@ public class Base62UtilsTest {
                 () -> Base62Utils.decode("abc!def"));
     }
 
+    @Test
+    public void testEncodeLong() {
+        Assertions.assertEquals("0", Base62Utils.encode(0L));
+        Assertions.assertEquals("z", Base62Utils.encode(61L));
+        Assertions.assertEquals("10", Base62Utils.encode(62L));
+        Assertions.assertEquals("AzL8n0Y58m7", Base62Utils.encode(Long.MAX_VALUE));
+        Assertions.assertEquals(11, Base62Utils.encode(-1L).length());
+    }
+
+    @Test
+    public void testEncodeLongMatchesBytes() {
+        Random random = new Random(62);
+        for (int i = 0; i < 1000; i++) {
+            // 最高字节非零时，字节数组编码与数值编码一致
+            long value = random.nextLong() | Long.MIN_VALUE;
+            String expected = Base62Utils.encode(ByteBuffer.allocate(8).putLong(value).array());
+            Assertions.assertEquals(expected, Base62Utils.encode(value));
+        }
+    }
+
+    @Test
+    public void testLongRoundtrip() {
+        Random random = new Random(62);
+        long[] samples = {0L, 1L, 61L, 62L, Long.MAX_VALUE, Long.MIN_VALUE, -1L};
+        for (long value : samples) {
+            Assertions.assertEquals(value, Base62Utils.decodeToLong(Base62Utils.encode(value)));
+        }
+        for (int i = 0; i < 10000; i++) {
+            long value = random.nextLong();
+            Assertions.assertEquals(value, Base62Utils.decodeToLong(Base62Utils.encode(value)));
+        }
+    }
+
+    @Test
+    public void testDecodeToLongInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Base62Utils.decodeToLong(""));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Base62Utils.decodeToLong("abc!"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Base62Utils.decodeToLong("000000000000"));
+        // 2^64 超出范围
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Base62Utils.decodeToLong("LygHa16AHYG"));
+        Assertions.assertEquals(-1L, Base62Utils.decodeToLong("LygHa16AHYF"));
+    }
+
+    @Test
+    public void testInt128Roundtrip() {
+        Random random = new Random(62);
+        BigInteger base = BigInteger.ONE.shiftLeft(64);
+        for (int i = 0; i < 10000; i++) {
+            long high = i == 0 ? 0 : random.nextLong();
+            long low = i == 1 ? -1L : random.nextLong();
+            String encoded = Base62Utils.encode(high, low);
+            Assertions.assertTrue(encoded.length() <= 22);
+
+            BigInteger expected = new BigInteger(Long.toUnsignedString(high)).multiply(base)
+                    .add(new BigInteger(Long.toUnsignedString(low)));
+            Assertions.assertEquals(expected, decodeReference(encoded));
+
+            long[] decoded = Base62Utils.decodeToLongs(encoded);
+            Assertions.assertEquals(high, decoded[0]);
+            Assertions.assertEquals(low, decoded[1]);
+        }
+        Assertions.assertEquals("0", Base62Utils.encode(0L, 0L));
+    }
+
+    @Test
+    public void testDecodeToLongsInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Base62Utils.decodeToLongs("zzzzzzzzzzzzzzzzzzzzzz"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Base62Utils.decodeToLongs("00000000000000000000000"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Base62Utils.decodeToLongs("-"));
+    }
+
+    @Test
+    public void testBlocksRoundtrip() {
+        Random random = new Random(62);
+        for (int length = 0; length <= 100; length++) {
+            byte[] original = new byte[length];
+            random.nextBytes(original);
+            String encoded = Base62Utils.encodeBlocks(original);
+            Assertions.assertEquals(length / 8 * 11 + new int[]{0, 2, 3, 5, 6, 7, 9, 10}[length % 8], encoded.length());
+            Assertions.assertArrayEquals(original, Base62Utils.decodeBlocks(encoded));
+        }
+    }
+
+    @Test
+    public void testBlocksExtremeValues() {
+        byte[] zeros = new byte[21];
+        Assertions.assertArrayEquals(zeros, Base62Utils.decodeBlocks(Base62Utils.encodeBlocks(zeros)));
+        byte[] ones = new byte[21];
+        Arrays.fill(ones, (byte) 0xFF);
+        Assertions.assertArrayEquals(ones, Base62Utils.decodeBlocks(Base62Utils.encodeBlocks(ones)));
+    }
+
+    @Test
+    public void testDecodeBlocksInvalid() {
+        // 长度 1、4、8 不对应任何字节数
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Base62Utils.decodeBlocks("0"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Base62Utils.decodeBlocks("0000"));
+        // 2 个字符最多表示 1 字节（< 256）
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Base62Utils.decodeBlocks("zz"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Base62Utils.decodeBlocks("0!"));
+    }
+
+    @Test
+    public void testBlocksLinearTime() {
+        byte[] original = new byte[64 * 1024];
+        new Random(62).nextBytes(original);
+
+        long begin = System.nanoTime();
+        String blocks = Base62Utils.encodeBlocks(original);
+        Assertions.assertArrayEquals(original, Base62Utils.decodeBlocks(blocks));
+        long blockElapsed = System.nanoTime() - begin;
+
+        byte[] small = Arrays.copyOf(original, 8 * 1024);
+        begin = System.nanoTime();
+        Assertions.assertArrayEquals(small, Base62Utils.decode(Base62Utils.encode(small)));
+        long bigIntegerElapsed = System.nanoTime() - begin;
+
+        log.info("blocks 64KB: {}ms, BigInteger 8KB: {}ms", blockElapsed / 1_000_000, bigIntegerElapsed / 1_000_000);
+    }
+
+    @Test
+    public void testStreamRoundtrip() throws IOException {
+        Random random = new Random(62);
+        byte[] original = new byte[100_003];
+        random.nextBytes(original);
+
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        try (OutputStream out = new Base62OutputStream(sink)) {
+            int offset = 0;
+            while (offset < original.length) {
+                int len = Math.min(random.nextInt(10_000), original.length - offset);
+                if (len % 3 == 0 && len > 0) {
+                    out.write(original[offset]);
+                    len = 1;
+                } else {
+                    out.write(original, offset, len);
+                }
+                offset += len;
+            }
+        }
+        Assertions.assertEquals(Base62Utils.encodeBlocks(original), sink.toString(StandardCharsets.US_ASCII));
+
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        try (InputStream in = new Base62InputStream(new ByteArrayInputStream(sink.toByteArray()))) {
+            byte[] buffer = new byte[777];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                decoded.write(buffer, 0, n);
+            }
+            Assertions.assertEquals(-1, in.read());
+        }
+        Assertions.assertArrayEquals(original, decoded.toByteArray());
+    }
+
+    @Test
+    public void testStreamSmallWrites() throws IOException {
+        byte[] original = new byte[1000];
+        new Random(7).nextBytes(original);
+        // 两次写入都不足一个分块
+        ByteArrayOutputStream partial = new ByteArrayOutputStream();
+        try (OutputStream out = new Base62OutputStream(partial)) {
+            out.write(original, 0, 3);
+            out.write(original, 3, 2);
+        }
+        Assertions.assertEquals(Base62Utils.encodeBlocks(Arrays.copyOf(original, 5)),
+                partial.toString(StandardCharsets.US_ASCII));
+
+        for (int piece = 1; piece <= 7; piece++) {
+            ByteArrayOutputStream sink = new ByteArrayOutputStream();
+            try (OutputStream out = new Base62OutputStream(sink)) {
+                for (int offset = 0; offset < original.length; offset += piece) {
+                    out.write(original, offset, Math.min(piece, original.length - offset));
+                }
+            }
+            Assertions.assertEquals(Base62Utils.encodeBlocks(original), sink.toString(StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    public void testStreamSingleByteRead() throws IOException {
+        byte[] original = "Hello, Base62 stream!".getBytes(StandardCharsets.UTF_8);
+        String encoded = Base62Utils.encodeBlocks(original);
+        try (InputStream in = new Base62InputStream(new ByteArrayInputStream(encoded.getBytes(StandardCharsets.US_ASCII)))) {
+            for (byte b : original) {
+                Assertions.assertEquals(b & 0xFF, in.read());
+            }
+            Assertions.assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void testStreamInvalid() {
+        Assertions.assertThrows(IOException.class, () -> {
+            try (InputStream in = new Base62InputStream(new ByteArrayInputStream("0000".getBytes(StandardCharsets.US_ASCII)))) {
+                in.read();
+            }
+        });
+        Assertions.assertThrows(IOException.class, () -> {
+            Base62OutputStream out = new Base62OutputStream(new ByteArrayOutputStream());
+            out.finish();
+            out.write(1);
+        });
+    }
+
+    @Test
+    public void testSortableLong() {
+        Assertions.assertEquals("00000000000", Base62Utils.encodeSortable(0L));
+        Assertions.assertEquals("LygHa16AHYF", Base62Utils.encodeSortable(-1L));
+        Assertions.assertEquals(-1L, Base62Utils.decodeSortableToLong("LygHa16AHYF"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Base62Utils.decodeSortableToLong("1"));
+
+        Random random = new Random(62);
+        long[] values = new long[10_000];
+        String[] encoded = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong() >>> random.nextInt(64);
+            encoded[i] = Base62Utils.encodeSortable(values[i]);
+            Assertions.assertEquals(11, encoded[i].length());
+            Assertions.assertEquals(values[i], Base62Utils.decodeSortableToLong(encoded[i]));
+        }
+        for (int i = 1; i < values.length; i++) {
+            Assertions.assertEquals(Integer.signum(Long.compareUnsigned(values[i - 1], values[i])),
+                    Integer.signum(Arrays.compare(encoded[i - 1].getBytes(StandardCharsets.US_ASCII),
+                            encoded[i].getBytes(StandardCharsets.US_ASCII))));
+        }
+    }
+
+    @Test
+    public void testSortableUuidV7() {
+        Assertions.assertEquals(22, Base62Utils.encodeSortable(0L, 0L).length());
+        Assertions.assertArrayEquals(new long[]{-1L, -1L}, Base62Utils.decodeSortableToLongs(Base62Utils.encodeSortable(-1L, -1L)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Base62Utils.decodeSortableToLongs(Base62Utils.encode(1L, 0L)));
+
+        String previous = null;
+        for (int i = 0; i < 10_000; i++) {
+            UUID uuid = UuidUtils.uuidV7();
+            String encoded = Base62Utils.encodeSortable(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+            Assertions.assertArrayEquals(new long[]{uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()},
+                    Base62Utils.decodeSortableToLongs(encoded));
+            if (previous != null) {
+                Assertions.assertTrue(previous.compareTo(encoded) < 0);
+            }
+            previous = encoded;
+        }
+    }
+
+    private static BigInteger decodeReference(String base62) {
+        String alphabet = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+        BigInteger value = BigInteger.ZERO;
+        for (char c : base62.toCharArray()) {
+            value = value.multiply(BigInteger.valueOf(62)).add(BigInteger.valueOf(alphabet.indexOf(c)));
+        }
+        return value;
+    }
+
 }
@@ -0,0 +1,100 @@
+package cn.lance.commons.util.qr;
+
+import cn.lance.commons.util.tlv.TlvNode;
+import cn.lance.commons.util.tlv.TlvQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+public class EmvQrUtilsTest {
+
+    /**
+     * EMVCo Merchant-Presented Mode 规范示例载荷
+     */
+    private static final String PAYLOAD = "00020101021229300012D156000000000510A93FO3230Q"
+            + "31280012D15600000001030812345678520441115802CN5914BEST TRANSPORT6007BEIJING"
+            + "64200002ZH0104最佳运输0202北京540523.7253031565502016233030412340603***0708A6008667"
+            + "0902ME91320016A0112233449988770708123456786304A13A";
+
+    @Test
+    public void testCrc16() {
+        byte[] check = "123456789".getBytes(StandardCharsets.US_ASCII);
+        Assertions.assertEquals(0x29B1, EmvQrUtils.crc16(check, 0, check.length));
+        Assertions.assertEquals(0x29B1, EmvQrUtils.crc16("123456789"));
+        Assertions.assertEquals(0xFFFF, EmvQrUtils.crc16(""));
+
+        byte[] utf8 = "6007北京".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(EmvQrUtils.crc16(utf8, 0, utf8.length), EmvQrUtils.crc16("6007北京"));
+    }
+
+    @Test
+    public void testValidate() {
+        Assertions.assertTrue(EmvQrUtils.validate(PAYLOAD));
+        Assertions.assertTrue(EmvQrUtils.validate(PAYLOAD.substring(0, PAYLOAD.length() - 4) + "a13a"));
+        Assertions.assertFalse(EmvQrUtils.validate(PAYLOAD.replace("BEIJING", "BEIJINH")));
+        Assertions.assertFalse(EmvQrUtils.validate(PAYLOAD.substring(0, PAYLOAD.length() - 1)));
+        Assertions.assertFalse(EmvQrUtils.validate(PAYLOAD.substring(6)));
+        Assertions.assertFalse(EmvQrUtils.validate(null));
+        Assertions.assertFalse(EmvQrUtils.validate("63040000"));
+
+        boolean[] result = EmvQrUtils.validateAll(List.of(PAYLOAD, "0002016304XXXX"));
+        Assertions.assertTrue(result[0]);
+        Assertions.assertFalse(result[1]);
+    }
+
+    @Test
+    public void testGenerate() {
+        String body = PAYLOAD.substring(0, PAYLOAD.length() - 8);
+        Assertions.assertEquals(PAYLOAD, EmvQrUtils.generate(body));
+        Assertions.assertEquals(PAYLOAD, EmvQrUtils.generate(body + "63040000"));
+        Assertions.assertTrue(EmvQrUtils.validate(EmvQrUtils.generate("000201010211")));
+
+        // 值以 "6304XXXX" 结尾的数据元不是 CRC 数据元，不能被截断
+        String reference = "0002016212" + "05086304ABCD";
+        String generated = EmvQrUtils.generate(reference);
+        Assertions.assertTrue(generated.startsWith(reference + "6304"));
+        Assertions.assertEquals(reference.length() + 8, generated.length());
+        Assertions.assertTrue(EmvQrUtils.validate(generated));
+        Assertions.assertEquals(generated, EmvQrUtils.generate(generated));
+    }
+
+    @Test
+    public void testParse() {
+        List<TlvNode> nodes = EmvQrUtils.parse(PAYLOAD);
+        Assertions.assertEquals("00", nodes.get(0).getTag());
+        Assertions.assertNull(nodes.get(0).getSubTags());
+
+        TlvNode language = nodes.stream().filter(node -> node.getTag().equals("64")).findFirst().orElseThrow();
+        Assertions.assertEquals("最佳运输", language.getSubTags().get(1).getValue());
+        TlvNode name = nodes.stream().filter(node -> node.getTag().equals("59")).findFirst().orElseThrow();
+        Assertions.assertNull(name.getSubTags());
+
+        Assertions.assertEquals("北京", EmvQrUtils.view(PAYLOAD).child("64").get("02"));
+        Assertions.assertArrayEquals(new String[]{"A93FO3230Q", "***"},
+                TlvQuery.compile("29.05", "62.06").findAll(PAYLOAD));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EmvQrUtils.parse(PAYLOAD.replace("A13A", "A13B")));
+    }
+
+    @Test
+    public void testBatchThroughput() {
+        List<String> payloads = new ArrayList<>();
+        String body = PAYLOAD.substring(0, PAYLOAD.length() - 8).replace("最佳运输", "BEST").replace("北京", "BJ");
+        for (int i = 0; i < 500_000; i++) {
+            payloads.add(EmvQrUtils.generate(body.replace("12345678", String.format("%08d", i))));
+        }
+
+        long begin = System.nanoTime();
+        boolean[] result = EmvQrUtils.validateAll(payloads);
+        long elapsed = System.nanoTime() - begin;
+        log.info("{} payloads validated: {}ms", payloads.size(), elapsed / 1_000_000);
+        for (boolean valid : result) {
+            Assertions.assertTrue(valid);
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package cn.lance.commons.util.tlv;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.List;
+
+@Slf4j
+public class BerTlvUtilsTest {
+
+    /**
+     * 70 (模板) { 9F02 金额, 5A 卡号, A5 { 88 01 } }，前后有 00 填充
+     */
+    private static final byte[] RECORD = HexFormat.of().parseHex(
+            "00" + "7019" + "9F0206000000001000" + "5A086212345678901234" + "A503" + "880101" + "0000");
+
+    @Test
+    public void testParse() {
+        List<BerTlv> result = BerTlvUtils.parse(RECORD);
+        log.info("{}", result);
+        Assertions.assertEquals(1, result.size());
+
+        BerTlv template = result.get(0);
+        Assertions.assertEquals(0x70, template.getTag());
+        Assertions.assertTrue(template.isConstructed());
+        Assertions.assertEquals(0x19, template.getLength());
+        Assertions.assertEquals(3, template.getChildren().size());
+
+        BerTlv amount = template.find(0x9F02);
+        Assertions.assertEquals("9F02", amount.getTagHex());
+        Assertions.assertFalse(amount.isConstructed());
+        Assertions.assertArrayEquals(HexFormat.of().parseHex("000000001000"), amount.getValueBytes());
+        Assertions.assertTrue(amount.getChildren().isEmpty());
+
+        BerTlv sfi = BerTlvUtils.find(result, 0x88);
+        Assertions.assertNotNull(sfi);
+        Assertions.assertArrayEquals(new byte[]{1}, sfi.getValueBytes());
+        Assertions.assertNull(BerTlvUtils.find(result, 0x9F03));
+    }
+
+    @Test
+    public void testZeroCopy() {
+        byte[] data = RECORD.clone();
+        BerTlv pan = BerTlvUtils.parse(data).get(0).find(0x5A);
+        ByteBuffer value = pan.getValue();
+        Assertions.assertTrue(value.isReadOnly());
+        Assertions.assertEquals(0, value.position());
+        Assertions.assertEquals(8, value.remaining());
+
+        // 值是原始数组的视图
+        data[14] = (byte) 0x99;
+        Assertions.assertEquals((byte) 0x99, pan.getValue().get(0));
+    }
+
+    @Test
+    public void testLongFormLength() {
+        byte[] value = new byte[300];
+        value[299] = 7;
+        byte[] data = new byte[5 + 300];
+        data[0] = (byte) 0xDF;
+        data[1] = 0x01;
+        data[2] = (byte) 0x82;
+        data[3] = 0x01;
+        data[4] = 0x2C;
+        System.arraycopy(value, 0, data, 5, 300);
+
+        List<BerTlv> result = BerTlvUtils.parse(data);
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals(0xDF01, result.get(0).getTag());
+        Assertions.assertFalse(result.get(0).isConstructed());
+        Assertions.assertEquals(300, result.get(0).getLength());
+        Assertions.assertEquals(7, result.get(0).getValue().get(299));
+    }
+
+    @Test
+    public void testParseBufferRange() {
+        ByteBuffer buffer = ByteBuffer.wrap(RECORD, 1, 0x1B);
+        List<BerTlv> result = BerTlvUtils.parse(buffer);
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals(1, buffer.position());
+
+        Assertions.assertEquals(1, BerTlvUtils.parse(RECORD, 1, 0x1B).size());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> BerTlvUtils.parse(RECORD, 1, RECORD.length));
+    }
+
+    @Test
+    public void testParseMalformed() {
+        Assertions.assertTrue(BerTlvUtils.parse(new byte[0]).isEmpty());
+        // 标签未结束
+        Assertions.assertTrue(BerTlvUtils.parse(HexFormat.of().parseHex("9F")).isEmpty());
+        // 缺少长度
+        Assertions.assertTrue(BerTlvUtils.parse(HexFormat.of().parseHex("5A")).isEmpty());
+        // 值超出范围
+        Assertions.assertTrue(BerTlvUtils.parse(HexFormat.of().parseHex("5A0512")).isEmpty());
+        // 不定长
+        Assertions.assertTrue(BerTlvUtils.parse(HexFormat.of().parseHex("70800000")).isEmpty());
+        // 长度字节过多
+        Assertions.assertTrue(BerTlvUtils.parse(HexFormat.of().parseHex("5A850000000001")).isEmpty());
+        // 合法前缀保留
+        Assertions.assertEquals(1, BerTlvUtils.parse(HexFormat.of().parseHex("5A01125A05")).size());
+    }
+
+    @Test
+    public void testTagHex() {
+        Assertions.assertEquals("5A", BerTlvUtils.tagToHex(0x5A));
+        Assertions.assertEquals("9F02", BerTlvUtils.tagToHex(0x9F02));
+        Assertions.assertEquals("DF8101", BerTlvUtils.tagToHex(0xDF8101));
+        Assertions.assertEquals(0x9F02, BerTlvUtils.hexToTag("9F02"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BerTlvUtils.hexToTag("9F0"));
+    }
+
+}
@@ -0,0 +1,143 @@
+package cn.lance.commons.util.tlv;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Slf4j
+public class TlvBindingTest {
+
+    private static final String TEXT = "000201" + "26180008cn.lance0102AB" + "5303156" + "540510.50"
+            + "5914BEST TRANSPORT" + "6212" + "0500" + "0704T001";
+
+    @Data
+    public static class Payment {
+
+        @TlvTag("00")
+        private String version;
+
+        @TlvTag("53")
+        private int currency;
+
+        @TlvTag("54")
+        private BigDecimal amount;
+
+        @TlvTag("26.00")
+        private String domain;
+
+        @TlvTag("62")
+        private Additional additional;
+
+        @TlvTag("99")
+        private Long missing;
+
+        private String ignored;
+
+    }
+
+    @Data
+    public static class Additional {
+
+        @TlvTag("05")
+        private String reference;
+
+        @TlvTag("07")
+        private String terminal;
+
+    }
+
+    @Data
+    public static class DetailedPayment extends Payment {
+
+        @TlvTag("59")
+        private String merchantName;
+
+    }
+
+    public record Merchant(@TlvTag("59") String name, @TlvTag("53") long currency, String note, @TlvTag("62.07") String terminal) {
+    }
+
+    public static class Invalid {
+
+        @TlvTag("53")
+        private List<String> currency;
+
+    }
+
+    @Test
+    public void testBindClass() {
+        Payment payment = TlvUtils.bind(TEXT, Payment.class);
+        Assertions.assertEquals("01", payment.getVersion());
+        Assertions.assertEquals(156, payment.getCurrency());
+        Assertions.assertEquals(new BigDecimal("10.50"), payment.getAmount());
+        Assertions.assertEquals("cn.lance", payment.getDomain());
+        Assertions.assertEquals("", payment.getAdditional().getReference());
+        Assertions.assertEquals("T001", payment.getAdditional().getTerminal());
+        Assertions.assertNull(payment.getMissing());
+        Assertions.assertNull(payment.getIgnored());
+
+        DetailedPayment detailed = TlvUtils.bind(TEXT, DetailedPayment.class);
+        Assertions.assertEquals("BEST TRANSPORT", detailed.getMerchantName());
+        Assertions.assertEquals(156, detailed.getCurrency());
+    }
+
+    @Test
+    public void testBindRecord() {
+        Merchant merchant = TlvUtils.bind(TEXT, Merchant.class);
+        Assertions.assertEquals(new Merchant("BEST TRANSPORT", 156, null, "T001"), merchant);
+        Assertions.assertEquals(new Merchant(null, 0, null, null), TlvUtils.bind("", Merchant.class));
+    }
+
+    @Test
+    public void testBindInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TlvUtils.bind(TEXT, Invalid.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TlvUtils.bind("5303ABC", Payment.class));
+    }
+
+    @Test
+    public void testThroughput() {
+        int count = 200_000;
+        for (int round = 0; round < 2; round++) {
+            long begin = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                TlvUtils.bind(TEXT, Payment.class);
+            }
+            long binding = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                List<TlvNode> nodes = TlvUtils.parse(TEXT, 2);
+                Payment payment = new Payment();
+                Additional additional = new Additional();
+                for (TlvNode node : nodes) {
+                    switch (node.getTag()) {
+                        case "00" -> payment.setVersion(node.getValue());
+                        case "53" -> payment.setCurrency(Integer.parseInt(node.getValue()));
+                        case "54" -> payment.setAmount(new BigDecimal(node.getValue()));
+                        case "26" -> payment.setDomain(node.getSubTags().get(0).getValue());
+                        case "62" -> {
+                            for (TlvNode sub : node.getSubTags()) {
+                                if (sub.getTag().equals("05")) {
+                                    additional.setReference(sub.getValue());
+                                } else if (sub.getTag().equals("07")) {
+                                    additional.setTerminal(sub.getValue());
+                                }
+                            }
+                            payment.setAdditional(additional);
+                        }
+                        default -> {
+                        }
+                    }
+                }
+            }
+            long manual = System.nanoTime() - begin;
+
+            log.info("{} payloads: binding {}ms, parse + manual copy {}ms", count, binding / 1_000_000, manual / 1_000_000);
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package cn.lance.commons.util.tlv;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TlvBuilderTest {
+
+    @Test
+    public void testBuild() {
+        String payload = new TlvBuilder()
+                .add("00", "01")
+                .begin("26").add("00", "cn.lance").add("01", "AB").end()
+                .addIfNotNull("53", "156")
+                .addIfNotNull("54", null)
+                .begin("62").begin("05").end().end()
+                .build();
+        Assertions.assertEquals("00020126180008cn.lance0102AB53031566204" + "0500", payload);
+        Assertions.assertEquals(payload, TlvUtils.encode(TlvUtils.parse(payload, 3)));
+        Assertions.assertEquals("cn.lance", TlvUtils.view(payload).child("26").get("00"));
+    }
+
+    @Test
+    public void testInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TlvBuilder().add("1", "x"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TlvBuilder().add("01", "x".repeat(100)));
+        Assertions.assertThrows(IllegalStateException.class, () -> new TlvBuilder().end());
+        Assertions.assertThrows(IllegalStateException.class, () -> new TlvBuilder().begin("62").build());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TlvBuilder().begin("62").add("01", "x".repeat(99)).end());
+
+        // 校验失败不写入任何字符
+        TlvBuilder builder = new TlvBuilder().add("00", "01");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.add("01", "x".repeat(100)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.add("1", "x"));
+        Assertions.assertEquals(6, builder.length());
+        Assertions.assertEquals("0002010202AB", builder.add("02", "AB").build());
+    }
+
+}
@@ -0,0 +1,86 @@
+package cn.lance.commons.util.tlv;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@Slf4j
+public class TlvQueryTest {
+
+    private static final String TEXT = "000201" + "26180008cn.lance0102AB" + "5303156" + "6212" + "0500" + "0704T001" + "6304ABCD";
+
+    @Test
+    public void testFind() {
+        Assertions.assertEquals("01", TlvQuery.compile("00").find(TEXT));
+        Assertions.assertEquals("cn.lance", TlvQuery.compile("26.00").find(TEXT));
+        Assertions.assertEquals("", TlvQuery.compile("62.05").find(TEXT));
+        Assertions.assertEquals("T001", TlvQuery.compile("62.07").find(TEXT));
+        Assertions.assertNull(TlvQuery.compile("62.08").find(TEXT));
+        Assertions.assertNull(TlvQuery.compile("53.00").find(TEXT));
+        Assertions.assertNull(TlvQuery.compile("00").find(null));
+    }
+
+    @Test
+    public void testFindAll() {
+        TlvQuery query = TlvQuery.compile("63", "26.01", "62", "62.07", "99", "26.01");
+        Assertions.assertArrayEquals(new String[]{"ABCD", "AB", "05000704T001", "T001", null, "AB"}, query.findAll(TEXT));
+        Assertions.assertEquals("ABCD", query.find(TEXT));
+        Assertions.assertEquals(6, query.getPaths().length);
+    }
+
+    @Test
+    public void testFirstMatchOnly() {
+        // 每层只匹配第一个同名标签
+        String text = "01040200" + "01060203AB";
+        Assertions.assertEquals("", TlvQuery.compile("01.02").find(text));
+        Assertions.assertEquals("0200", TlvQuery.compile("01").find(text));
+    }
+
+    @Test
+    public void testMatchesParse() {
+        List<TlvNode> nodes = TlvUtils.parse(TEXT, 3);
+        TlvQuery query = TlvQuery.compile("26.00", "62.07");
+        String[] values = query.findAll(TEXT);
+        Assertions.assertEquals(nodes.get(1).getSubTags().get(0).getValue(), values[0]);
+        Assertions.assertEquals(nodes.get(3).getSubTags().get(1).getValue(), values[1]);
+    }
+
+    @Test
+    public void testMalformed() {
+        Assertions.assertNull(TlvQuery.compile("02").find("0105AB0202XX"));
+        Assertions.assertEquals("AB", TlvQuery.compile("01").find("0102AB02XX"));
+    }
+
+    @Test
+    public void testInvalidPath() {
+        Assertions.assertThrows(IllegalArgumentException.class, TlvQuery::compile);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TlvQuery.compile(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TlvQuery.compile("6"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TlvQuery.compile("62."));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TlvQuery.compile("62-05"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TlvQuery.compile("6A"));
+    }
+
+    @Test
+    public void testThroughput() {
+        int count = 200_000;
+        TlvQuery query = TlvQuery.compile("26.00", "62.07");
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            query.findAll(TEXT);
+        }
+        long queryElapsed = System.nanoTime() - begin;
+
+        begin = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            TlvUtils.parse(TEXT, 2);
+        }
+        long parseElapsed = System.nanoTime() - begin;
+
+        log.info("{} payloads: query {}ms, parse {}ms", count, queryElapsed / 1_000_000, parseElapsed / 1_000_000);
+    }
+
+}
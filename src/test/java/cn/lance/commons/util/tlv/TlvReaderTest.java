@@ -0,0 +1,144 @@
+package cn.lance.commons.util.tlv;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@Slf4j
+public class TlvReaderTest {
+
+    private static final String RECORD = "01240002AB0104CDEF0206abcdef";
+
+    @Test
+    public void testIterator() throws IOException {
+        String text = RECORD.repeat(3) + "0200";
+        List<TlvNode> nodes = new ArrayList<>();
+        try (TlvReader reader = new TlvReader(new StringReader(text))) {
+            reader.forEachRemaining(nodes::add);
+            Assertions.assertFalse(reader.hasNext());
+            Assertions.assertThrows(NoSuchElementException.class, reader::next);
+            Assertions.assertEquals(text.length(), reader.getOffset());
+        }
+        Assertions.assertEquals(TlvUtils.parse(text), nodes);
+    }
+
+    @Test
+    public void testChannel() throws IOException {
+        String text = RECORD + "0305中文字符串";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        List<TlvNode> nodes = new ArrayList<>();
+        try (TlvReader reader = new TlvReader(Channels.newChannel(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8, 1)) {
+            reader.forEachRemaining(nodes::add);
+        }
+        Assertions.assertEquals(TlvUtils.parse(text, 1), nodes);
+        Assertions.assertEquals("中文字符串", nodes.get(1).getValue());
+    }
+
+    @Test
+    public void testHandler() throws IOException {
+        StringBuilder events = new StringBuilder();
+        TlvHandler handler = new TlvHandler() {
+            @Override
+            public void startTag(String tag, int length, int level) {
+                events.append('<').append(tag).append(':').append(level);
+            }
+
+            @Override
+            public void value(String tag, CharSequence value, int level) {
+                events.append('=').append(value);
+            }
+
+            @Override
+            public void endTag(String tag, int level) {
+                events.append('>');
+            }
+        };
+
+        new TlvReader(new StringReader(RECORD + "0200"), 2).read(handler);
+        Assertions.assertEquals("<01:1=0002AB0104CDEF0206abcdef<00:2=AB><01:2=CDEF><02:2=abcdef>><02:1=>", events.toString());
+
+        events.setLength(0);
+        new TlvReader(new StringReader(RECORD), 1).read(handler);
+        Assertions.assertEquals("<01:1=0002AB0104CDEF0206abcdef>", events.toString());
+    }
+
+    @Test
+    public void testHandlerPrimitiveLeaves() throws IOException {
+        // 原始数据元在深度 2 时子节点为空或不完整，值必须完整保留
+        String text = "000201" + "5303156" + "6206" + "0102AB" + "2606" + "0101AX";
+        List<TlvNode> expected = TlvUtils.parse(text, 2);
+        List<String> values = new ArrayList<>();
+        List<String> children = new ArrayList<>();
+        new TlvReader(new StringReader(text), 2).read(new TlvHandler() {
+            @Override
+            public void value(String tag, CharSequence value, int level) {
+                (level == 1 ? values : children).add(tag + "=" + value);
+            }
+        });
+
+        Assertions.assertEquals(expected.stream().map(node -> node.getTag() + "=" + node.getValue()).toList(), values);
+        Assertions.assertEquals(List.of("01=AB", "01=A"), children);
+        Assertions.assertEquals(List.of("00=01", "53=156", "62=0102AB", "26=0101AX"), values);
+    }
+
+    @Test
+    public void testMalformed() {
+        TlvReader reader = new TlvReader(new StringReader(RECORD + "02XX" + RECORD));
+        Assertions.assertTrue(reader.hasNext());
+        reader.next();
+        Assertions.assertFalse(reader.hasNext());
+        Assertions.assertEquals(RECORD.length(), reader.getOffset());
+
+        reader = new TlvReader(new StringReader(RECORD + "0205AB"));
+        reader.next();
+        Assertions.assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testLargeInput() throws IOException {
+        int count = 200_000;
+        Reader source = new Reader() {
+            private long remaining = (long) RECORD.length() * count;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) {
+                if (remaining == 0) {
+                    return -1;
+                }
+                int n = (int) Math.min(len, remaining);
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = RECORD.charAt((int) ((RECORD.length() * (long) count - remaining + i) % RECORD.length()));
+                }
+                remaining -= n;
+                return n;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        int[] values = new int[1];
+        long begin = System.nanoTime();
+        new TlvReader(source, 2).read(new TlvHandler() {
+            @Override
+            public void value(String tag, CharSequence value, int level) {
+                values[0]++;
+            }
+        });
+        log.info("{} records: {}ms", count, (System.nanoTime() - begin) / 1_000_000);
+        // 每条记录 1 个顶层值 + 3 个子节点值
+        Assertions.assertEquals(count * 4, values[0]);
+    }
+
+}
@@ -5,7 +5,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 @Slf4j
 public class TlvUtilsTest {
@@ -90,4 +94,97 @@ public class TlvUtilsTest {
         Assertions.assertTrue(result.isEmpty());
     }
 
+    @Test
+    public void testEncodeRoundTrip() {
+        // 59 的值可被部分解析为子节点
+        String text = "00020101021126180008cn.lance0102AB5303156540510.00590601014X62040500";
+        for (int depth = 0; depth <= 3; depth++) {
+            List<TlvNode> nodes = TlvUtils.parse(text, depth);
+            Assertions.assertEquals(text, TlvUtils.encode(nodes));
+            Assertions.assertEquals(nodes, TlvUtils.parse(TlvUtils.encode(nodes), depth));
+        }
+        Assertions.assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), TlvUtils.encodeToBytes(TlvUtils.parse(text)));
+    }
+
+    @Test
+    public void testEncodeComputesLength() {
+        TlvNode child = new TlvNode();
+        child.setTag("00");
+        child.setValue("cn.lance");
+        TlvNode parent = new TlvNode();
+        parent.setTag("26");
+        parent.setLength(1);
+        parent.setSubTags(List.of(child));
+        TlvNode empty = new TlvNode();
+        empty.setTag("62");
+
+        Assertions.assertEquals("26120008cn.lance6200", TlvUtils.encode(List.of(parent, empty)));
+        Assertions.assertEquals("xx6200", TlvUtils.encode(List.of(empty), new StringBuilder("xx")).toString());
+        Assertions.assertEquals("", TlvUtils.encode(List.of()));
+    }
+
+    @Test
+    public void testEncodeInvalid() {
+        TlvNode node = new TlvNode();
+        node.setTag("A1");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TlvUtils.encode(List.of(node)));
+        node.setTag("01");
+        node.setValue("x".repeat(100));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TlvUtils.encode(List.of(node)));
+    }
+
+    @Test
+    public void testParseAll() {
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            texts.add(new TlvBuilder().add("00", String.valueOf(i)).begin("62").add("05", "T" + i).end().build());
+        }
+        texts.add(null);
+        texts.add("XX");
+
+        List<List<TlvNode>> expected = texts.stream().map(text -> TlvUtils.parse(text, 2)).toList();
+        Assertions.assertEquals(expected, TlvUtils.parseAll(texts, 2));
+        Assertions.assertEquals(expected, TlvUtils.parseAll(texts, 2, new ForkJoinPool(3)));
+        Assertions.assertEquals(expected, TlvUtils.parseAll(texts.stream(), 2));
+        Assertions.assertEquals("9999", TlvUtils.parseAll(new LinkedList<>(texts), 1).get(9999).get(0).getValue());
+        Assertions.assertTrue(TlvUtils.parseAll(List.of(), 2).isEmpty());
+    }
+
+    @Test
+    public void testParseAllThroughput() {
+        // 约 200 字符的商户二维码记录，发票号各不相同以校验结果顺序
+        List<String> texts = new ArrayList<>(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            texts.add(new TlvBuilder()
+                    .add("00", "01").add("01", "12")
+                    .begin("26").add("00", "cn.lance.payment").add("01", "1234567890123456").end()
+                    .add("52", "5812").add("53", "156").add("54", "123.45").add("58", "CN")
+                    .add("59", "BEST TRANSPORT CO LTD").add("60", "BEIJING")
+                    .begin("62").add("01", String.format("INV-%010d", i)).add("05", "REF-0000000001").add("07", "T0000001").end()
+                    .add("63", "ABCD")
+                    .build());
+        }
+
+        for (int round = 0; round < 2; round++) {
+            long begin = System.nanoTime();
+            List<List<TlvNode>> sequential = new ArrayList<>(texts.size());
+            for (String text : texts) {
+                sequential.add(TlvUtils.parse(text, 2));
+            }
+            long sequentialNanos = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            List<List<TlvNode>> parallel = TlvUtils.parseAll(texts, 2);
+            long parallelNanos = System.nanoTime() - begin;
+
+            log.info("{} records x {} chars: sequential {}ms, parallel {}ms ({} threads)", texts.size(), texts.get(0).length(),
+                    sequentialNanos / 1_000_000, parallelNanos / 1_000_000, ForkJoinPool.commonPool().getParallelism());
+
+            Assertions.assertEquals(texts.size(), parallel.size());
+            Assertions.assertEquals(sequential, parallel);
+            Assertions.assertEquals(11, parallel.get(0).size());
+            Assertions.assertEquals("INV-0000099999", parallel.get(99_999).get(9).getSubTags().get(0).getValue());
+        }
+    }
+
 }
@@ -0,0 +1,59 @@
+package cn.lance.commons.util.tlv;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TlvViewTest {
+
+    private static final String TEXT = "000201" + "26180008cn.lance0102AB" + "5303156" + "6204" + "0500";
+
+    @Test
+    public void testView() {
+        TlvView view = TlvUtils.view(TEXT);
+        Assertions.assertEquals(4, view.size());
+        Assertions.assertEquals(26, view.tag(1));
+        Assertions.assertEquals(18, view.length(1));
+        Assertions.assertEquals(10, view.valueOffset(1));
+        Assertions.assertEquals("01", view.get("00"));
+        Assertions.assertEquals("156", view.get("53"));
+        Assertions.assertNull(view.get("99"));
+        Assertions.assertEquals(-1, view.indexOf("5"));
+        Assertions.assertEquals(-1, view.indexOf(100));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> view.value(4));
+    }
+
+    @Test
+    public void testChild() {
+        TlvView view = TlvUtils.view(new StringBuilder(TEXT));
+        TlvView merchant = view.child("26");
+        Assertions.assertSame(merchant, view.child(1));
+        Assertions.assertEquals(2, merchant.size());
+        Assertions.assertEquals("cn.lance", merchant.get("00"));
+        Assertions.assertEquals("AB", merchant.get("01"));
+
+        TlvView additional = view.child("62");
+        Assertions.assertEquals(1, additional.size());
+        Assertions.assertEquals("", additional.get("05"));
+        Assertions.assertNull(view.child("99"));
+    }
+
+    @Test
+    public void testToTlvNodes() {
+        for (int depth = 0; depth <= 3; depth++) {
+            Assertions.assertEquals(TlvUtils.parse(TEXT, depth), TlvUtils.view(TEXT).toTlvNodes(depth));
+        }
+        TlvNode node = TlvUtils.view(TEXT).toTlvNode(1, 2);
+        Assertions.assertEquals("26", node.getTag());
+        Assertions.assertEquals(2, node.getSubTags().size());
+    }
+
+    @Test
+    public void testMalformed() {
+        Assertions.assertEquals(0, TlvUtils.view("").size());
+        Assertions.assertEquals(0, TlvUtils.view("010").size());
+        Assertions.assertEquals(1, TlvUtils.view("0101A02XX").size());
+        Assertions.assertEquals(1, TlvUtils.view("0101A0203AB").size());
+        Assertions.assertThrows(NullPointerException.class, () -> TlvUtils.view(null));
+    }
+
+}
@@ -0,0 +1,130 @@
+package cn.lance.commons.util.uuid;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Slf4j
+public class SegmentIdUtilsTest {
+
+    @Test
+    public void testNextIdDense() {
+        AtomicLong max = new AtomicLong();
+        SegmentIdUtils segmentIdUtils = new SegmentIdUtils((key, step) -> max.getAndAdd(step) + 1, "order", 100);
+        for (long expected = 1; expected <= 1000; expected++) {
+            Assertions.assertEquals(expected, segmentIdUtils.nextId());
+        }
+    }
+
+    @Test
+    public void testPrefetch() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicLong max = new AtomicLong();
+        SegmentIdUtils segmentIdUtils = new SegmentIdUtils((key, step) -> {
+            calls.incrementAndGet();
+            return max.getAndAdd(step) + 1;
+        }, "order", 100, 0.5, Runnable::run);
+
+        for (int i = 0; i < 49; i++) {
+            segmentIdUtils.nextId();
+        }
+        Assertions.assertEquals(1, calls.get());
+        // 发放到 50% 时预取下一号段
+        segmentIdUtils.nextId();
+        Assertions.assertEquals(2, calls.get());
+        for (int i = 0; i < 50; i++) {
+            segmentIdUtils.nextId();
+        }
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(101, segmentIdUtils.nextId());
+    }
+
+    @Test
+    public void testStoreFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        SegmentIdUtils segmentIdUtils = new SegmentIdUtils((key, step) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("store unavailable");
+            }
+            return 1;
+        }, "order", 10);
+        Assertions.assertThrows(IllegalStateException.class, segmentIdUtils::nextId);
+        Assertions.assertEquals(1, segmentIdUtils.nextId());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        IdSegmentStore store = (key, step) -> 1;
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SegmentIdUtils(store, "order", 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SegmentIdUtils(store, "order", 10, 0, Runnable::run));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new SegmentIdUtils(null, "order", 10));
+    }
+
+    @Test
+    public void testConcurrentWithFileStore() throws Exception {
+        Path directory = Files.createTempDirectory("segment");
+        try {
+            SegmentIdUtils segmentIdUtils = new SegmentIdUtils(new FileIdSegmentStore(directory), "order", 1000);
+            int threads = 8;
+            int perThread = 20000;
+            long[] ids = new long[threads * perThread];
+            long begin = System.nanoTime();
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                Future<?>[] futures = new Future<?>[threads];
+                for (int t = 0; t < threads; t++) {
+                    int offset = t * perThread;
+                    futures[t] = executor.submit(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            ids[offset + i] = segmentIdUtils.nextId();
+                        }
+                    });
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            log.info("threads={} ids={} elapsed={}ms", threads, ids.length, (System.nanoTime() - begin) / 1_000_000);
+            Assertions.assertEquals(ids.length, Arrays.stream(ids).distinct().count());
+            Assertions.assertTrue(Arrays.stream(ids).min().orElseThrow() >= 1);
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    public void testFileStore() throws IOException {
+        Path directory = Files.createTempDirectory("segment");
+        try {
+            FileIdSegmentStore store = new FileIdSegmentStore(directory);
+            Assertions.assertEquals(1, store.allocate("order", 100));
+            Assertions.assertEquals(101, store.allocate("order", 100));
+            Assertions.assertEquals(1, store.allocate("user", 10));
+            // 重新打开后继续分配
+            Assertions.assertEquals(201, new FileIdSegmentStore(directory).allocate("order", 1));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> store.allocate("../order", 1));
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+}
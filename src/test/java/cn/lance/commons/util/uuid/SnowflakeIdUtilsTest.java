@@ -4,6 +4,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 @Slf4j
 public class SnowflakeIdUtilsTest {
 
@@ -74,4 +80,280 @@ public class SnowflakeIdUtilsTest {
         }
     }
 
+    @Test
+    public void testLockFreeUniqueIds() {
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(1, 2, true);
+        Assertions.assertTrue(snowflakeIdUtils.isLockFree());
+        long prevId = snowflakeIdUtils.nextId();
+        for (int i = 0; i < 10000; i++) {
+            long nextId = snowflakeIdUtils.nextId();
+            Assertions.assertTrue(nextId > prevId);
+            prevId = nextId;
+        }
+    }
+
+    @Test
+    public void testLockFreeSameLayout() {
+        long locked = new SnowflakeIdUtils(7, 19).nextId();
+        long lockFree = new SnowflakeIdUtils(7, 19, true).nextId();
+        // datacenter / worker 位一致
+        Assertions.assertEquals((locked >>> 12) & 0x3FF, (lockFree >>> 12) & 0x3FF);
+        Assertions.assertEquals((19L << 5) | 7L, (lockFree >>> 12) & 0x3FF);
+        // 时间戳相差不超过 1 秒
+        Assertions.assertTrue(Math.abs((locked >>> 22) - (lockFree >>> 22)) < 1000);
+    }
+
+    @Test
+    public void testContentionBenchmark() throws Exception {
+        int total = 1 << 18;
+        for (boolean lockFree : new boolean[]{false, true}) {
+            for (int threads = 1; threads <= 64; threads <<= 1) {
+                SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(1, 1, lockFree);
+                long[] ids = runConcurrently(snowflakeIdUtils, threads, total / threads);
+                long elapsed = ids[ids.length - 1];
+                long[] sorted = Arrays.copyOf(ids, ids.length - 1);
+                Arrays.sort(sorted);
+                for (int i = 1; i < sorted.length; i++) {
+                    Assertions.assertNotEquals(sorted[i - 1], sorted[i]);
+                }
+                log.info("lockFree={} threads={} ids={} elapsed={}ms throughput={} ids/ms",
+                        lockFree, threads, sorted.length, elapsed / 1_000_000,
+                        sorted.length * 1_000_000L / Math.max(elapsed, 1));
+            }
+        }
+    }
+
+    @Test
+    public void testNextIds() {
+        for (boolean lockFree : new boolean[]{false, true}) {
+            SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(3, 4, lockFree);
+            long[] ids = snowflakeIdUtils.nextIds(20000);
+            Assertions.assertEquals(20000, ids.length);
+            for (int i = 1; i < ids.length; i++) {
+                Assertions.assertTrue(ids[i] > ids[i - 1]);
+            }
+            Assertions.assertTrue(snowflakeIdUtils.nextId() > ids[ids.length - 1]);
+        }
+    }
+
+    @Test
+    public void testNextIdsEmptyAndNegative() {
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(0, 0);
+        Assertions.assertEquals(0, snowflakeIdUtils.nextIds(0).length);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> snowflakeIdUtils.nextIds(-1));
+    }
+
+    @Test
+    public void testNextIdStream() {
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(0, 0);
+        Assertions.assertEquals(5000, snowflakeIdUtils.nextIdStream(5000).distinct().count());
+    }
+
+    @Test
+    public void testFillRange() {
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(0, 0);
+        long[] ids = new long[10];
+        snowflakeIdUtils.fill(ids, 2, 5);
+        Assertions.assertEquals(0, ids[1]);
+        Assertions.assertTrue(ids[2] > 0);
+        Assertions.assertTrue(ids[6] > ids[2]);
+        Assertions.assertEquals(0, ids[7]);
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> snowflakeIdUtils.fill(ids, 8, 5));
+    }
+
+    @Test
+    public void testFillConcurrentWithNextId() throws Exception {
+        for (boolean lockFree : new boolean[]{false, true}) {
+            SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(1, 1, lockFree);
+            int threads = 8;
+            int perThread = 10000;
+            long[] ids = new long[threads * perThread];
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                Future<?>[] futures = new Future<?>[threads];
+                for (int t = 0; t < threads; t++) {
+                    int offset = t * perThread;
+                    boolean batch = t % 2 == 0;
+                    futures[t] = executor.submit(() -> {
+                        if (batch) {
+                            for (int i = 0; i < perThread; i += 1000) {
+                                snowflakeIdUtils.fill(ids, offset + i, 1000);
+                            }
+                        } else {
+                            for (int i = 0; i < perThread; i++) {
+                                ids[offset + i] = snowflakeIdUtils.nextId();
+                            }
+                        }
+                    });
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            Assertions.assertEquals(ids.length, Arrays.stream(ids).distinct().count());
+        }
+    }
+
+    @Test
+    public void testStrictPolicyCounters() {
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(0, 0);
+        snowflakeIdUtils.nextIds(10000);
+        Assertions.assertEquals(0, snowflakeIdUtils.getBorrowCount());
+        Assertions.assertEquals(0, snowflakeIdUtils.getParkCount());
+        Assertions.assertEquals(0, snowflakeIdUtils.getBackwardCount());
+    }
+
+    @Test
+    public void testBorrowPolicy() {
+        // 冻结时钟，确保同一毫秒内序列必然耗尽
+        ManualTimeSource timeSource = new ManualTimeSource(1735660800000L + 1000);
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(0, 0, true,
+                new SnowflakeClockPolicy(10, 0, 0), timeSource);
+        long prevId = snowflakeIdUtils.nextId();
+        for (int i = 1; i < 4096 * 5; i++) {
+            long nextId = snowflakeIdUtils.nextId();
+            Assertions.assertTrue(nextId > prevId);
+            prevId = nextId;
+        }
+        Assertions.assertEquals(4, snowflakeIdUtils.getBorrowCount());
+        Assertions.assertEquals(0, snowflakeIdUtils.getParkCount());
+        // 借用超前量有界
+        Assertions.assertEquals(1004, prevId >>> 22);
+        Assertions.assertTrue((prevId >>> 22) + 1735660800000L - timeSource.currentTimeMillis() <= 10);
+    }
+
+    @Test
+    public void testParkPolicy() {
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(0, 0, false,
+                new SnowflakeClockPolicy(0, 0, 100_000));
+        long[] ids = snowflakeIdUtils.nextIds(20000);
+        Assertions.assertEquals(20000, Arrays.stream(ids).distinct().count());
+        Assertions.assertTrue(snowflakeIdUtils.getParkCount() > 0);
+        Assertions.assertEquals(0, snowflakeIdUtils.getBorrowCount());
+    }
+
+    @Test
+    public void testInvalidClockPolicy() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeClockPolicy(-1, 0, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeClockPolicy(0, -1, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeClockPolicy(0, 0, -1));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new SnowflakeIdUtils(0, 0, false, null));
+    }
+
+    @Test
+    public void testManualClockSequenceExhaustion() {
+        ManualTimeSource timeSource = new ManualTimeSource(1735660800000L + 1000);
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(0, 0, false,
+                new SnowflakeClockPolicy(1, 0, 0), timeSource);
+        long[] ids = snowflakeIdUtils.nextIds(4096);
+        Assertions.assertEquals(1000, ids[0] >>> 22);
+        Assertions.assertEquals(1000, ids[4095] >>> 22);
+        Assertions.assertEquals(4095, ids[4095] & 0xFFF);
+
+        // 借用下一毫秒
+        long borrowed = snowflakeIdUtils.nextId();
+        Assertions.assertEquals(1001, borrowed >>> 22);
+        Assertions.assertEquals(0, borrowed & 0xFFF);
+        Assertions.assertEquals(1, snowflakeIdUtils.getBorrowCount());
+
+        timeSource.advance(5);
+        Assertions.assertEquals(1005, snowflakeIdUtils.nextId() >>> 22);
+    }
+
+    @Test
+    public void testManualClockStrictBackwards() {
+        ManualTimeSource timeSource = new ManualTimeSource();
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(0, 0, true,
+                SnowflakeClockPolicy.STRICT, timeSource);
+        snowflakeIdUtils.nextId();
+        timeSource.advance(-1);
+        Assertions.assertThrows(IllegalStateException.class, snowflakeIdUtils::nextId);
+    }
+
+    @Test
+    public void testManualClockToleratedBackwards() {
+        ManualTimeSource timeSource = new ManualTimeSource();
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(0, 0, true,
+                new SnowflakeClockPolicy(0, 10, 0), timeSource);
+        long prevId = snowflakeIdUtils.nextId();
+        timeSource.advance(-10);
+        for (int i = 0; i < 100; i++) {
+            long nextId = snowflakeIdUtils.nextId();
+            Assertions.assertTrue(nextId > prevId);
+            Assertions.assertEquals(prevId >>> 22, nextId >>> 22);
+            prevId = nextId;
+        }
+        Assertions.assertEquals(100, snowflakeIdUtils.getBackwardCount());
+
+        timeSource.advance(-1);
+        Assertions.assertThrows(IllegalStateException.class, snowflakeIdUtils::nextId);
+
+        timeSource.advance(12);
+        Assertions.assertEquals((prevId >>> 22) + 1, snowflakeIdUtils.nextId() >>> 22);
+    }
+
+    @Test
+    public void testNullTimeSource() {
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new SnowflakeIdUtils(0, 0, false, SnowflakeClockPolicy.STRICT, null));
+    }
+
+    @Test
+    public void testCustomLayout() {
+        SnowflakeLayout layout = new SnowflakeLayout(41, 4, 4, 14, 0);
+        ManualTimeSource timeSource = new ManualTimeSource(1000);
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(layout, 15, 9, true,
+                SnowflakeClockPolicy.STRICT, timeSource);
+        Assertions.assertSame(layout, snowflakeIdUtils.getLayout());
+
+        long[] ids = snowflakeIdUtils.nextIds(16384);
+        Assertions.assertEquals(1000, ids[16383] >>> 22);
+        Assertions.assertEquals(16383, ids[16383] & 0x3FFF);
+        Assertions.assertEquals(15, (ids[0] >>> 14) & 0xF);
+        Assertions.assertEquals(9, (ids[0] >>> 18) & 0xF);
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeIdUtils(layout, 16, 0));
+    }
+
+    @Test
+    public void testTimestampBeforeEpoch() {
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(0, 0, false,
+                SnowflakeClockPolicy.STRICT, new ManualTimeSource(0));
+        Assertions.assertThrows(IllegalStateException.class, snowflakeIdUtils::nextId);
+    }
+
+    /**
+     * 并发生成 ID，返回数组最后一位为耗时（纳秒）
+     */
+    private static long[] runConcurrently(SnowflakeIdUtils snowflakeIdUtils, int threads, int perThread) throws Exception {
+        long[] ids = new long[threads * perThread + 1];
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                int offset = t * perThread;
+                futures[t] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        ids[offset + i] = snowflakeIdUtils.nextId();
+                    }
+                    return null;
+                });
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            ids[ids.length - 1] = System.nanoTime() - begin;
+        }
+        return ids;
+    }
+
 }
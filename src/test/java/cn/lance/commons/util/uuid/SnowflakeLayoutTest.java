@@ -0,0 +1,106 @@
+package cn.lance.commons.util.uuid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SnowflakeLayoutTest {
+
+    @Test
+    public void testDefaultLayout() {
+        SnowflakeLayout layout = SnowflakeLayout.DEFAULT;
+        Assertions.assertEquals(12, layout.getWorkerIdShift());
+        Assertions.assertEquals(17, layout.getDatacenterIdShift());
+        Assertions.assertEquals(22, layout.getTimestampShift());
+        Assertions.assertEquals(4095, layout.getSequenceMask());
+        Assertions.assertEquals(31, layout.getMaxWorkerId());
+        Assertions.assertEquals(31, layout.getMaxDatacenterId());
+        Assertions.assertEquals((1L << 41) - 1, layout.getMaxTimestamp());
+        Assertions.assertEquals(1735660800000L, layout.getEpoch());
+    }
+
+    @Test
+    public void testCustomLayout() {
+        SnowflakeLayout layout = new SnowflakeLayout(41, 4, 4, 14, 0);
+        Assertions.assertEquals(16383, layout.getSequenceMask());
+        Assertions.assertEquals(15, layout.getMaxWorkerId());
+        Assertions.assertEquals(18, layout.getDatacenterIdShift());
+        Assertions.assertEquals(22, layout.getTimestampShift());
+    }
+
+    @Test
+    public void testZeroNodeBits() {
+        SnowflakeLayout layout = new SnowflakeLayout(43, 0, 0, 20, 0);
+        Assertions.assertEquals(0, layout.getMaxWorkerId());
+        Assertions.assertEquals(0, layout.getMaxDatacenterId());
+    }
+
+    @Test
+    public void testInvalidLayout() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeLayout(41, 5, 5, 13, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeLayout(31, 10, 10, 12, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeLayout(41, -1, 11, 12, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeLayout(41, 11, 11, 0, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeLayout(41, 5, 5, 12, -1));
+    }
+
+    @Test
+    public void testDecode() {
+        ManualTimeSource timeSource = new ManualTimeSource(1735660800000L + 123456);
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(7, 19, false, SnowflakeClockPolicy.STRICT, timeSource);
+        snowflakeIdUtils.nextId();
+        long id = snowflakeIdUtils.nextId();
+
+        SnowflakeId decoded = SnowflakeLayout.DEFAULT.decode(id);
+        Assertions.assertEquals(id, decoded.getId());
+        Assertions.assertEquals(timeSource.currentTimeMillis(), decoded.getTimestamp());
+        Assertions.assertEquals(19, decoded.getDatacenterId());
+        Assertions.assertEquals(7, decoded.getWorkerId());
+        Assertions.assertEquals(1, decoded.getSequence());
+    }
+
+    @Test
+    public void testDecodeCustomLayout() {
+        SnowflakeLayout layout = new SnowflakeLayout(41, 3, 5, 14, 1000);
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(layout, 31, 7, false,
+                SnowflakeClockPolicy.STRICT, new ManualTimeSource(5000));
+        long id = snowflakeIdUtils.nextId();
+        Assertions.assertEquals(5000, layout.timestampOf(id));
+        Assertions.assertEquals(7, layout.datacenterIdOf(id));
+        Assertions.assertEquals(31, layout.workerIdOf(id));
+        Assertions.assertEquals(0, layout.sequenceOf(id));
+    }
+
+    @Test
+    public void testIdRange() {
+        SnowflakeLayout layout = SnowflakeLayout.DEFAULT;
+        ManualTimeSource timeSource = new ManualTimeSource(layout.getEpoch() + 10_000);
+        SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(31, 31, false, SnowflakeClockPolicy.STRICT, timeSource);
+        long first = snowflakeIdUtils.nextId();
+        timeSource.advance(1);
+        long last = snowflakeIdUtils.nextId();
+
+        long from = layout.getEpoch() + 10_000;
+        long to = layout.getEpoch() + 10_001;
+        Assertions.assertTrue(layout.minIdAt(from) <= first && first <= layout.maxIdAt(from));
+        Assertions.assertTrue(layout.minIdAt(to) <= last && last <= layout.maxIdAt(to));
+        Assertions.assertTrue(last > layout.maxIdAt(from));
+        Assertions.assertTrue(first < layout.minIdAt(to));
+        Assertions.assertEquals(layout.maxIdAt(from) + 1, layout.minIdAt(to));
+    }
+
+    @Test
+    public void testIdRangeOutOfBounds() {
+        SnowflakeLayout layout = SnowflakeLayout.DEFAULT;
+        Assertions.assertEquals(0, layout.minIdAt(0));
+        Assertions.assertEquals(-1, layout.maxIdAt(0));
+        Assertions.assertEquals(Long.MAX_VALUE, layout.minIdAt(Long.MAX_VALUE));
+        Assertions.assertEquals(Long.MAX_VALUE, layout.maxIdAt(Long.MAX_VALUE));
+        Assertions.assertEquals(Long.MAX_VALUE, layout.maxIdAt(layout.getEpoch() + layout.getMaxTimestamp()));
+    }
+
+}
@@ -0,0 +1,109 @@
+package cn.lance.commons.util.uuid;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+public class StripedSnowflakeIdUtilsTest {
+
+    @Test
+    public void testNextId() {
+        StripedSnowflakeIdUtils snowflakeIdUtils = new StripedSnowflakeIdUtils(31, 31, 8);
+        for (int i = 0; i < 10; i++) {
+            long nextId = snowflakeIdUtils.nextId();
+            log.info("Decimal: {}  Binary: {}", nextId, Long.toBinaryString(nextId));
+            Assertions.assertTrue(nextId > 0);
+        }
+    }
+
+    @Test
+    public void testStripeCapacity() {
+        Assertions.assertEquals(4096, new StripedSnowflakeIdUtils(0, 0, 1).getStripeCapacity());
+        Assertions.assertEquals(512, new StripedSnowflakeIdUtils(0, 0, 8).getStripeCapacity());
+        Assertions.assertEquals(1, new StripedSnowflakeIdUtils(0, 0, 4096).getStripeCapacity());
+        Assertions.assertEquals(8, new StripedSnowflakeIdUtils(0, 0, 8).getStripes());
+    }
+
+    @Test
+    public void testInvalidStripes() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new StripedSnowflakeIdUtils(0, 0, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new StripedSnowflakeIdUtils(0, 0, 3));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new StripedSnowflakeIdUtils(0, 0, 8192));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new StripedSnowflakeIdUtils(32, 0, 4));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new StripedSnowflakeIdUtils(0, 0, 4).nextId(4));
+    }
+
+    @Test
+    public void testStripeBits() {
+        StripedSnowflakeIdUtils snowflakeIdUtils = new StripedSnowflakeIdUtils(5, 6, 4);
+        long id = snowflakeIdUtils.nextId(3);
+        Assertions.assertEquals(3, (id >>> 10) & 0x3);
+        Assertions.assertEquals((6L << 5) | 5L, (id >>> 12) & 0x3FF);
+    }
+
+    @Test
+    public void testSequenceExhaustion() {
+        StripedSnowflakeIdUtils snowflakeIdUtils = new StripedSnowflakeIdUtils(0, 0, 64);
+        long prevId = snowflakeIdUtils.nextId(1);
+        for (int i = 0; i < 1000; i++) {
+            long nextId = snowflakeIdUtils.nextId(1);
+            Assertions.assertTrue(nextId > prevId);
+            prevId = nextId;
+        }
+    }
+
+    @Test
+    public void testManualClockBackwards() {
+        ManualTimeSource timeSource = new ManualTimeSource();
+        StripedSnowflakeIdUtils snowflakeIdUtils = new StripedSnowflakeIdUtils(0, 0, 4, timeSource);
+        snowflakeIdUtils.nextId(0);
+        timeSource.advance(-1);
+        Assertions.assertThrows(IllegalStateException.class, () -> snowflakeIdUtils.nextId(0));
+        // 其他分段不受影响
+        Assertions.assertTrue(snowflakeIdUtils.nextId(1) > 0);
+    }
+
+    @Test
+    public void testConcurrentUniqueIds() throws Exception {
+        int total = 1 << 16;
+        for (int threads = 1; threads <= 64; threads <<= 1) {
+            StripedSnowflakeIdUtils snowflakeIdUtils = new StripedSnowflakeIdUtils(1, 1, 16);
+            int perThread = total / threads;
+            long[] ids = new long[total];
+            long begin = System.nanoTime();
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                Future<?>[] futures = new Future<?>[threads];
+                for (int t = 0; t < threads; t++) {
+                    int offset = t * perThread;
+                    futures[t] = executor.submit(() -> {
+                        long prev = 0;
+                        for (int i = 0; i < perThread; i++) {
+                            long id = snowflakeIdUtils.nextId();
+                            // 同一线程固定落在同一分段，ID 严格递增
+                            Assertions.assertTrue(id > prev);
+                            ids[offset + i] = prev = id;
+                        }
+                    });
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            long elapsed = System.nanoTime() - begin;
+            Assertions.assertEquals(total, Arrays.stream(ids).distinct().count());
+            log.info("stripes=16 threads={} elapsed={}ms", threads, elapsed / 1_000_000);
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package cn.lance.commons.util.uuid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TimeSourceTest {
+
+    @Test
+    public void testSystemTimeSource() {
+        long now = System.currentTimeMillis();
+        Assertions.assertTrue(TimeSource.SYSTEM.currentTimeMillis() >= now);
+    }
+
+    @Test
+    public void testManualTimeSource() {
+        ManualTimeSource timeSource = new ManualTimeSource(1000);
+        Assertions.assertEquals(1000, timeSource.currentTimeMillis());
+        Assertions.assertEquals(1005, timeSource.advance(5));
+        Assertions.assertEquals(1002, timeSource.advance(-3));
+        timeSource.set(42);
+        Assertions.assertEquals(42, timeSource.currentTimeMillis());
+    }
+
+    @Test
+    public void testCachedTimeSource() throws InterruptedException {
+        try (CachedTimeSource timeSource = new CachedTimeSource()) {
+            long first = timeSource.currentTimeMillis();
+            Assertions.assertTrue(Math.abs(System.currentTimeMillis() - first) < 1000);
+            Thread.sleep(50);
+            Assertions.assertTrue(timeSource.currentTimeMillis() > first);
+        }
+    }
+
+    @Test
+    public void testCachedTimeSourceInvalidTick() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CachedTimeSource(0));
+    }
+
+}
@@ -4,6 +4,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 @Slf4j
 public class UuidUtilsTest {
 
@@ -35,4 +45,184 @@ public class UuidUtilsTest {
         Assertions.assertEquals(64, uuid.length());
     }
 
+    @Test
+    public void testRandomUuidCharacters() {
+        String uuid = UuidUtils.randomUuid(10000);
+        Assertions.assertTrue(uuid.chars().allMatch(c -> (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z')));
+        // 36 个字符均应出现
+        Assertions.assertEquals(36, uuid.chars().distinct().count());
+    }
+
+    @Test
+    public void testRandomUuidIntoChars() {
+        char[] chars = new char[20];
+        UuidUtils.randomUuid(chars, 4, 12);
+        Assertions.assertEquals(0, chars[3]);
+        Assertions.assertNotEquals(0, chars[4]);
+        Assertions.assertNotEquals(0, chars[15]);
+        Assertions.assertEquals(0, chars[16]);
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> UuidUtils.randomUuid(chars, 10, 12));
+    }
+
+    @Test
+    public void testRandomUuidIntoBytes() {
+        byte[] bytes = new byte[32];
+        UuidUtils.randomUuid(bytes, 0, bytes.length);
+        String text = new String(bytes, StandardCharsets.US_ASCII);
+        Assertions.assertTrue(text.chars().allMatch(c -> (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z')));
+    }
+
+    @Test
+    public void testRandomUuidThroughput() {
+        String characters = "0123456789abcdefghijklmnopqrstuvwxyz";
+        SecureRandom random = new SecureRandom();
+        int rounds = 20000;
+        int length = 32;
+
+        long begin = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            StringBuilder builder = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                builder.append(characters.charAt(random.nextInt(characters.length())));
+            }
+            Assertions.assertEquals(length, builder.length());
+        }
+        long perChar = System.nanoTime() - begin;
+
+        begin = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            Assertions.assertEquals(length, UuidUtils.randomUuid(length).length());
+        }
+        long buffered = System.nanoTime() - begin;
+
+        log.info("per-char nextInt: {}ms, buffered: {}ms, speedup: {}x",
+                perChar / 1_000_000, buffered / 1_000_000, String.format("%.1f", (double) perChar / buffered));
+    }
+
+    @Test
+    public void testUuidV7() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidUtils.uuidV7();
+        log.info(uuid.toString());
+        Assertions.assertEquals(7, uuid.version());
+        Assertions.assertEquals(2, uuid.variant());
+        Assertions.assertTrue((uuid.getMostSignificantBits() >>> 16) >= before);
+    }
+
+    @Test
+    public void testUuidV7Monotonic() {
+        UUID prev = UuidUtils.uuidV7();
+        for (int i = 0; i < 20000; i++) {
+            UUID next = UuidUtils.uuidV7();
+            Assertions.assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), prev.getMostSignificantBits()) > 0);
+            prev = next;
+        }
+    }
+
+    @Test
+    public void testUuidV7Concurrent() throws Exception {
+        int threads = 8;
+        int perThread = 10000;
+        long[] msbs = new long[threads * perThread];
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                int offset = t * perThread;
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        msbs[offset + i] = UuidUtils.uuidV7().getMostSignificantBits();
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        Assertions.assertEquals(msbs.length, Arrays.stream(msbs).distinct().count());
+    }
+
+    @Test
+    public void testTimeOrderedUuid() {
+        String a = UuidUtils.timeOrderedUuid();
+        String b = UuidUtils.timeOrderedUuid();
+        Assertions.assertEquals(32, a.length());
+        Assertions.assertTrue(a.compareTo(b) < 0);
+        Assertions.assertEquals(36, UuidUtils.timeOrderedUuidWithHyphen().length());
+    }
+
+    @Test
+    public void testUuidV7Bytes() {
+        byte[] a = UuidUtils.uuidV7Bytes();
+        byte[] b = UuidUtils.uuidV7Bytes();
+        Assertions.assertEquals(16, a.length);
+        Assertions.assertTrue(Arrays.compareUnsigned(a, b) < 0);
+        Assertions.assertEquals(0x70, a[6] & 0xF0);
+    }
+
+    @Test
+    public void testBytesRoundtrip() {
+        UUID uuid = UUID.randomUUID();
+        Assertions.assertEquals(uuid, UuidUtils.fromBytes(UuidUtils.toBytes(uuid)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> UuidUtils.fromBytes(new byte[15]));
+    }
+
+    @Test
+    public void testFormatUuid() {
+        UUID uuid = UUID.randomUUID();
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+
+        char[] chars = new char[40];
+        Assertions.assertEquals(36, UuidUtils.formatUuid(msb, lsb, true, chars, 2));
+        Assertions.assertEquals(uuid.toString(), new String(chars, 2, 36));
+        Assertions.assertEquals(32, UuidUtils.formatUuid(msb, lsb, false, chars, 0));
+        Assertions.assertEquals(uuid.toString().replace("-", ""), new String(chars, 0, 32));
+
+        byte[] bytes = new byte[36];
+        UuidUtils.formatUuid(msb, lsb, true, bytes, 0);
+        Assertions.assertEquals(uuid.toString(), new String(bytes, StandardCharsets.US_ASCII));
+
+        StringBuilder builder = new StringBuilder("id=");
+        UuidUtils.formatUuid(msb, lsb, false, builder);
+        Assertions.assertEquals("id=" + uuid.toString().replace("-", ""), builder.toString());
+
+        ByteBuffer buffer = ByteBuffer.allocate(36);
+        UuidUtils.formatUuid(msb, lsb, true, buffer);
+        Assertions.assertEquals(uuid.toString(), new String(buffer.array(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testFormatUuidOutOfBounds() {
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> UuidUtils.formatUuid(0, 0, true, new char[35], 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> UuidUtils.formatUuid(0, 0, false, new byte[32], 1));
+        Assertions.assertThrows(BufferOverflowException.class,
+                () -> UuidUtils.formatUuid(0, 0, false, ByteBuffer.allocate(31)));
+    }
+
+    @Test
+    public void testParseUuid() {
+        UUID uuid = UUID.randomUUID();
+        Assertions.assertEquals(uuid, UuidUtils.parseUuid(uuid.toString()));
+        Assertions.assertEquals(uuid, UuidUtils.parseUuid(uuid.toString().replace("-", "")));
+        Assertions.assertEquals(uuid, UuidUtils.parseUuid(uuid.toString().toUpperCase()));
+        Assertions.assertEquals(uuid.getMostSignificantBits(), UuidUtils.parseUuidMostSignificantBits(uuid.toString()));
+        Assertions.assertEquals(uuid.getLeastSignificantBits(), UuidUtils.parseUuidLeastSignificantBits(uuid.toString()));
+    }
+
+    @Test
+    public void testParseUuidInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> UuidUtils.parseUuid("123"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> UuidUtils.parseUuid("0123456789abcdef0123456789abcdeg"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> UuidUtils.parseUuid("01234567x89ab-cdef-0123-456789abcdef"));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> UuidUtils.parseUuid(null));
+    }
+
 }
@@ -0,0 +1,131 @@
+package cn.lance.commons.util.uuid;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Slf4j
+public class WorkerIdAllocatorTest {
+
+    @Test
+    public void testAcquireDistinctSlots() throws IOException {
+        Path leaseFile = Files.createTempFile("worker-id", ".lease");
+        WorkerIdAllocator allocator = new WorkerIdAllocator(leaseFile);
+        Assertions.assertEquals(1024, allocator.getSlots());
+
+        try (WorkerIdLease first = allocator.acquire(); WorkerIdLease second = allocator.acquire()) {
+            log.info("first: {}/{}, second: {}/{}", first.getDatacenterId(), first.getWorkerId(),
+                    second.getDatacenterId(), second.getWorkerId());
+            Assertions.assertNotEquals(first.getSlot(), second.getSlot());
+            Assertions.assertTrue(first.isValid());
+            Assertions.assertTrue(second.isValid());
+
+            SnowflakeIdUtils snowflakeIdUtils = new SnowflakeIdUtils(first.getWorkerId(), first.getDatacenterId());
+            Assertions.assertTrue(snowflakeIdUtils.nextId() > 0);
+        } finally {
+            Files.deleteIfExists(leaseFile);
+        }
+    }
+
+    @Test
+    public void testReleaseSlot() throws IOException {
+        Path leaseFile = Files.createTempFile("worker-id", ".lease");
+        ManualTimeSource timeSource = new ManualTimeSource();
+        SnowflakeLayout layout = new SnowflakeLayout(41, 0, 0, 22, 0);
+        SnowflakeClockPolicy policy = new SnowflakeClockPolicy(5, 0, 0);
+        WorkerIdAllocator allocator = new WorkerIdAllocator(leaseFile, layout, 60_000, policy, timeSource);
+        Assertions.assertEquals(1, allocator.getSlots());
+        try {
+            WorkerIdLease lease = allocator.acquire();
+            SnowflakeIdUtils first = new SnowflakeIdUtils(layout, lease.getWorkerId(), lease.getDatacenterId(), false, policy, timeSource);
+            long lastId = first.nextId();
+            lease.close();
+            Assertions.assertFalse(lease.isValid());
+
+            // 隔离期：最后时间戳 + 1 毫秒 + 借用超前量
+            Assertions.assertThrows(IllegalStateException.class, allocator::acquire);
+            timeSource.advance(5);
+            Assertions.assertThrows(IllegalStateException.class, allocator::acquire);
+            timeSource.advance(1);
+            try (WorkerIdLease reacquired = allocator.acquire()) {
+                Assertions.assertEquals(lease.getSlot(), reacquired.getSlot());
+                SnowflakeIdUtils second = new SnowflakeIdUtils(layout, reacquired.getWorkerId(), reacquired.getDatacenterId(),
+                        false, policy, timeSource);
+                Assertions.assertTrue(second.nextId() > lastId);
+            }
+        } finally {
+            Files.deleteIfExists(leaseFile);
+        }
+    }
+
+    @Test
+    public void testExpiredSlotReclaimed() throws IOException {
+        Path leaseFile = Files.createTempFile("worker-id", ".lease");
+        ManualTimeSource timeSource = new ManualTimeSource();
+        SnowflakeLayout layout = new SnowflakeLayout(41, 0, 1, 21, 0);
+        WorkerIdAllocator allocator = new WorkerIdAllocator(leaseFile, layout, 60_000, timeSource);
+        Assertions.assertEquals(2, allocator.getSlots());
+        try (WorkerIdLease crashed = allocator.acquire(); WorkerIdLease other = allocator.acquire()) {
+            Assertions.assertThrows(IllegalStateException.class, allocator::acquire);
+
+            // 模拟持有者崩溃，租约过期
+            timeSource.advance(60_000);
+            Assertions.assertFalse(crashed.isValid());
+            try (WorkerIdLease taken = allocator.acquire()) {
+                Assertions.assertEquals(crashed.getSlot(), taken.getSlot());
+                Assertions.assertTrue(taken.isValid());
+                Assertions.assertEquals(-1, allocator.renew(crashed.getSlot(), 1L));
+            }
+            Assertions.assertFalse(other.isValid());
+        } finally {
+            Files.deleteIfExists(leaseFile);
+        }
+    }
+
+    @Test
+    public void testHeartbeat() throws IOException, InterruptedException {
+        Path leaseFile = Files.createTempFile("worker-id", ".lease");
+        WorkerIdAllocator allocator = new WorkerIdAllocator(leaseFile, SnowflakeLayout.DEFAULT, 150);
+        try (WorkerIdLease lease = allocator.acquire()) {
+            Thread.sleep(500);
+            Assertions.assertTrue(lease.isValid());
+            try (WorkerIdLease other = allocator.acquire()) {
+                Assertions.assertNotEquals(lease.getSlot(), other.getSlot());
+            }
+        } finally {
+            Files.deleteIfExists(leaseFile);
+        }
+    }
+
+    @Test
+    public void testSharedTableAndClose() throws IOException {
+        Path leaseFile = Files.createTempFile("worker-id", ".lease");
+        WorkerIdAllocator allocator = new WorkerIdAllocator(leaseFile);
+        WorkerIdAllocator other = new WorkerIdAllocator(leaseFile);
+        try (WorkerIdLease first = allocator.acquire()) {
+            // 映射只建立一次，后续操作仍能看到其他分配器的写入
+            for (int i = 0; i < 3; i++) {
+                try (WorkerIdLease second = other.acquire()) {
+                    Assertions.assertNotEquals(first.getSlot(), second.getSlot());
+                }
+            }
+        } finally {
+            allocator.close();
+            other.close();
+            Files.deleteIfExists(leaseFile);
+        }
+        allocator.close();
+        Assertions.assertThrows(IllegalStateException.class, allocator::acquire);
+    }
+
+    @Test
+    public void testInvalidLeaseMillis() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new WorkerIdAllocator(Path.of("unused"), SnowflakeLayout.DEFAULT, 0));
+    }
+
+}